@@ -0,0 +1,53 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.stereotype.Component;
+
+// Binary payload v1, big-endian:
+//   header  (14 bytes): version u8 = 1, sampleCount u8, deviceId u32, materialId i64
+//   sample  (10 bytes): epochSeconds u32, temperature i16, humidity u16, oxygenLevel u16
+// Readings are fixed-point in hundredths (e.g. 425 = 4.25).
+@Component
+public class BinarySensorPayloadDecoder {
+
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 14;
+    public static final int SAMPLE_SIZE = 10;
+
+    public int sampleCount(byte[] payload) {
+        return sampleCount(payload, payload.length);
+    }
+
+    // length is the number of valid bytes at the start of payload (e.g. a reused datagram buffer).
+    public int sampleCount(byte[] payload, int length) {
+        if (length < HEADER_SIZE || (payload[0] & 0xFF) != VERSION) {
+            return -1;
+        }
+        int count = payload[1] & 0xFF;
+        return count > 0 && length == HEADER_SIZE + count * SAMPLE_SIZE ? count : -1;
+    }
+
+    public void decodeSample(byte[] payload, int index, SensorReading reading) {
+        reading.reset();
+        reading.setDeviceId(readInt(payload, 2) & 0xFFFFFFFFL);
+        reading.setMaterialId(readLong(payload, 6));
+
+        int offset = HEADER_SIZE + index * SAMPLE_SIZE;
+        reading.setMeasurementTime((readInt(payload, offset) & 0xFFFFFFFFL) * 1000);
+        reading.setTemperature(readShort(payload, offset + 4) / 100.0);
+        reading.setHumidity((readShort(payload, offset + 6) & 0xFFFF) / 100.0);
+        reading.setOxygenLevel((readShort(payload, offset + 8) & 0xFFFF) / 100.0);
+    }
+
+    private static short readShort(byte[] p, int offset) {
+        return (short) ((p[offset] & 0xFF) << 8 | (p[offset + 1] & 0xFF));
+    }
+
+    private static int readInt(byte[] p, int offset) {
+        return (p[offset] & 0xFF) << 24 | (p[offset + 1] & 0xFF) << 16
+                | (p[offset + 2] & 0xFF) << 8 | (p[offset + 3] & 0xFF);
+    }
+
+    private static long readLong(byte[] p, int offset) {
+        return (readInt(p, offset) & 0xFFFFFFFFL) << 32 | (readInt(p, offset + 4) & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,288 @@
+package com.BiologicalMaterialsSystem.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of accepted readings stored in memory-mapped segment files. Readings are
+ * appended by the MQTT thread and replayed into the ingest lanes by a background thread, so a slow
+ * or unavailable database only makes the journal grow. The checkpoint file holds the sequence number
+ * of the first reading that is not yet known to be written to storage_condition (or rejected or dropped
+ * by the lanes); after a restart the replay continues from it, so readings between the last checkpoint
+ * and a crash may be written twice.
+ *
+ * Record layout (60 bytes): materialId, measurementTime, receivedTime (long), temperature, humidity,
+ * oxygenLevel (double), deviceId (long), CRC32 of the preceding 56 bytes (int). Segment files are named after the
+ * sequence number of their first record.
+ */
+class IngestJournal {
+
+    interface Sink {
+        void accept(SensorReading reading) throws InterruptedException;
+    }
+
+    private static final int PAYLOAD_SIZE = 56;
+    private static final int RECORD_SIZE = PAYLOAD_SIZE + 4;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final long syncIntervalMillis;
+    private final long checkpointIntervalMillis;
+    private final Sink sink;
+    // Lowest sequence handed to the lanes and not yet finished there, or Long.MAX_VALUE.
+    private final LongSupplier lowestUnfinished;
+
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private final byte[] writeScratch = new byte[PAYLOAD_SIZE];
+    private final ByteBuffer writeView = ByteBuffer.wrap(writeScratch);
+    private final CRC32 writeCrc = new CRC32();
+    private final byte[] readScratch = new byte[PAYLOAD_SIZE];
+    private final ByteBuffer readView = ByteBuffer.wrap(readScratch);
+    private final CRC32 readCrc = new CRC32();
+
+    private Segment head;
+    private volatile long writeSequence;
+    private volatile long readSequence;
+    private long checkpoint;
+
+    private Thread replayer;
+    private volatile boolean running;
+
+    IngestJournal(IngestProperties properties, Sink sink, LongSupplier lowestUnfinished) {
+        this.directory = Paths.get(properties.getJournalDirectory());
+        this.segmentRecords = (int) Math.max(1, properties.getJournalSegmentSizeBytes() / RECORD_SIZE);
+        this.syncIntervalMillis = properties.getJournalSyncIntervalMillis();
+        this.checkpointIntervalMillis = properties.getJournalCheckpointIntervalMillis();
+        this.sink = sink;
+        this.lowestUnfinished = lowestUnfinished;
+    }
+
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        checkpoint = readCheckpoint();
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory)) {
+            files = list.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path path : files) {
+            String name = path.getFileName().toString();
+            long base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            int records = (int) (Files.size(path) / RECORD_SIZE);
+            if (base + records <= checkpoint) {
+                Files.delete(path);
+                continue;
+            }
+            segments.put(base, Segment.open(path, base, records));
+        }
+
+        if (segments.isEmpty()) {
+            head = createSegment(checkpoint);
+            writeSequence = checkpoint;
+        } else {
+            head = segments.lastEntry().getValue();
+            int index = 0;
+            while (index < head.records && readRecord(head, head.base + index) != null) {
+                index++;
+            }
+            writeSequence = head.base + index;
+        }
+        readSequence = Math.max(checkpoint, segments.firstKey());
+
+        running = true;
+        replayer = new Thread(this::replayLoop, "storage-condition-journal");
+        replayer.setDaemon(true);
+        replayer.start();
+    }
+
+    synchronized void append(SensorReading reading) throws IOException {
+        if (writeSequence - head.base >= head.records) {
+            head = createSegment(writeSequence);
+        }
+        writeView.putLong(0, reading.getMaterialId());
+        writeView.putLong(8, reading.getMeasurementTime());
+        writeView.putLong(16, reading.getReceivedTime());
+        writeView.putDouble(24, reading.getTemperature());
+        writeView.putDouble(32, reading.getHumidity());
+        writeView.putDouble(40, reading.getOxygenLevel());
+        writeView.putLong(48, reading.getDeviceId());
+        writeCrc.reset();
+        writeCrc.update(writeScratch);
+
+        int offset = (int) (writeSequence - head.base) * RECORD_SIZE;
+        head.buffer.put(offset, writeScratch);
+        head.buffer.putInt(offset + PAYLOAD_SIZE, (int) writeCrc.getValue());
+        writeSequence++;
+        LockSupport.unpark(replayer);
+    }
+
+    long backlog() {
+        return writeSequence - readSequence;
+    }
+
+    // Stops dispatching; readings already handed to the lanes are still written by them.
+    void stopReplay() {
+        running = false;
+        replayer.interrupt();
+        try {
+            replayer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Called after the lanes are drained; readings they abandoned are still unfinished and keep the checkpoint before them.
+    synchronized void close() {
+        head.buffer.force();
+        writeCheckpoint(safeSequence());
+    }
+
+    private void replayLoop() {
+        long lastSync = System.currentTimeMillis();
+        long lastCheckpoint = lastSync;
+        Segment segment = null;
+
+        while (running) {
+            long sequence = readSequence;
+            if (sequence < writeSequence) {
+                if (segment == null || sequence - segment.base >= segment.records) {
+                    segment = segmentFor(sequence);
+                }
+                SensorReading reading = readRecord(segment, sequence);
+                try {
+                    if (reading != null) {
+                        sink.accept(reading);
+                    } else {
+                        System.err.println("Пошкоджений запис журналу показників " + sequence + " пропущено");
+                    }
+                    readSequence = sequence + 1;
+                } catch (InterruptedException e) {
+                    continue;
+                }
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastSync >= syncIntervalMillis) {
+                lastSync = now;
+                syncHead();
+            }
+            if (now - lastCheckpoint >= checkpointIntervalMillis) {
+                lastCheckpoint = now;
+                writeCheckpoint(safeSequence());
+            }
+        }
+    }
+
+    // Every sequence below readSequence has been dispatched, and a dispatched reading is registered as
+    // unfinished before readSequence moves past it, so nothing below the result is still in flight.
+    private long safeSequence() {
+        long read = readSequence;
+        return Math.min(read, lowestUnfinished.getAsLong());
+    }
+
+    private synchronized void syncHead() {
+        head.buffer.force();
+    }
+
+    private synchronized Segment segmentFor(long sequence) {
+        return segments.floorEntry(sequence).getValue();
+    }
+
+    private SensorReading readRecord(Segment segment, long sequence) {
+        int offset = (int) (sequence - segment.base) * RECORD_SIZE;
+        segment.buffer.get(offset, readScratch);
+        readCrc.reset();
+        readCrc.update(readScratch);
+        if ((int) readCrc.getValue() != segment.buffer.getInt(offset + PAYLOAD_SIZE)) {
+            return null;
+        }
+
+        SensorReading reading = new SensorReading();
+        reading.setMaterialId(readView.getLong(0));
+        reading.setMeasurementTime(readView.getLong(8));
+        reading.setReceivedTime(readView.getLong(16));
+        reading.setTemperature(readView.getDouble(24));
+        reading.setHumidity(readView.getDouble(32));
+        reading.setOxygenLevel(readView.getDouble(40));
+        reading.setDeviceId(readView.getLong(48));
+        reading.setSequence(sequence);
+        return reading;
+    }
+
+    private Segment createSegment(long base) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(path, base, segmentRecords);
+        segments.put(base, segment);
+        return segment;
+    }
+
+    private long readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(path)).getLong();
+    }
+
+    private synchronized void writeCheckpoint(long sequence) {
+        if (sequence <= checkpoint) {
+            return;
+        }
+        try {
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+                channel.force(true);
+            }
+            Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            checkpoint = sequence;
+            deleteReplayedSegments();
+        } catch (IOException e) {
+            System.err.println("Не вдалося зберегти контрольну точку журналу показників: " + e.getMessage());
+        }
+    }
+
+    private void deleteReplayedSegments() throws IOException {
+        while (segments.size() > 1) {
+            Map.Entry<Long, Segment> oldest = segments.firstEntry();
+            Segment segment = oldest.getValue();
+            if (segment == head || segment.base + segment.records > checkpoint) {
+                return;
+            }
+            segments.remove(oldest.getKey());
+            segment.channel.close();
+            Files.delete(segment.path);
+        }
+    }
+
+    private record Segment(Path path, long base, int records, FileChannel channel, MappedByteBuffer buffer) {
+        private static Segment open(Path path, long base, int records) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) records * RECORD_SIZE);
+            return new Segment(path, base, records, channel, buffer);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mqtt.ingest")
+public class IngestProperties {
+    private int queueCapacity = 10000;
+    private int batchSize = 500;
+    private long flushIntervalMillis = 1000;
+    private int lanes = Runtime.getRuntime().availableProcessors();
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+    private int dedupCapacity = 100000;
+    private long dedupTtlMillis = 3_600_000;
+    private long reorderWindowMillis = 5000;
+    private boolean journalEnabled = false;
+    private String journalDirectory = "ingest-journal";
+    private long journalSegmentSizeBytes = 64L * 1024 * 1024;
+    private long journalSyncIntervalMillis = 1000;
+    private long journalCheckpointIntervalMillis = 1000;
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getFlushIntervalMillis() { return flushIntervalMillis; }
+    public void setFlushIntervalMillis(long flushIntervalMillis) { this.flushIntervalMillis = flushIntervalMillis; }
+
+    public int getLanes() { return lanes; }
+    public void setLanes(int lanes) { this.lanes = lanes; }
+
+    public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+
+    public int getDedupCapacity() { return dedupCapacity; }
+    public void setDedupCapacity(int dedupCapacity) { this.dedupCapacity = dedupCapacity; }
+
+    public long getDedupTtlMillis() { return dedupTtlMillis; }
+    public void setDedupTtlMillis(long dedupTtlMillis) { this.dedupTtlMillis = dedupTtlMillis; }
+
+    public long getReorderWindowMillis() { return reorderWindowMillis; }
+    public void setReorderWindowMillis(long reorderWindowMillis) { this.reorderWindowMillis = reorderWindowMillis; }
+
+    public boolean isJournalEnabled() { return journalEnabled; }
+    public void setJournalEnabled(boolean journalEnabled) { this.journalEnabled = journalEnabled; }
+
+    public String getJournalDirectory() { return journalDirectory; }
+    public void setJournalDirectory(String journalDirectory) { this.journalDirectory = journalDirectory; }
+
+    public long getJournalSegmentSizeBytes() { return journalSegmentSizeBytes; }
+    public void setJournalSegmentSizeBytes(long journalSegmentSizeBytes) { this.journalSegmentSizeBytes = journalSegmentSizeBytes; }
+
+    public long getJournalSyncIntervalMillis() { return journalSyncIntervalMillis; }
+    public void setJournalSyncIntervalMillis(long journalSyncIntervalMillis) { this.journalSyncIntervalMillis = journalSyncIntervalMillis; }
+
+    public long getJournalCheckpointIntervalMillis() { return journalCheckpointIntervalMillis; }
+    public void setJournalCheckpointIntervalMillis(long journalCheckpointIntervalMillis) { this.journalCheckpointIntervalMillis = journalCheckpointIntervalMillis; }
+
+    public enum OverflowPolicy {
+        BLOCK,
+        DROP_OLDEST,
+        LATEST_PER_MATERIAL
+    }
+}
@@ -1,5 +1,6 @@
 package com.BiologicalMaterialsSystem.config;
 
+import lombok.RequiredArgsConstructor;
 import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,17 +12,18 @@ import org.springframework.integration.mqtt.inbound.MqttPahoMessageDrivenChannel
 import org.springframework.integration.mqtt.support.DefaultPahoMessageConverter;
 import org.springframework.messaging.MessageChannel;
 
+import java.util.UUID;
+
 @Configuration
+@RequiredArgsConstructor
 public class MqttConfig {
 
-    private static final String MQTT_BROKER_URL = "tcp://broker.emqx.io:1883";
-    private static final String CLIENT_ID = "spring_mqtt_client";
-    private static final String TOPIC = "storage-conditions";
+    private final MqttProperties properties;
 
     @Bean
     public MqttConnectOptions mqttConnectOptions() {
         MqttConnectOptions options = new MqttConnectOptions();
-        options.setServerURIs(new String[]{MQTT_BROKER_URL});
+        options.setServerURIs(new String[]{properties.getBrokerUrl()});
         options.setCleanSession(true);
         return options;
     }
@@ -43,12 +45,32 @@ public class MqttConfig {
             MqttPahoClientFactory mqttClientFactory,
             MessageChannel mqttInputChannel
     ) {
+        String clientId = properties.getClientIdPrefix() + "-" + UUID.randomUUID().toString().substring(0, 8);
         MqttPahoMessageDrivenChannelAdapter adapter =
-                new MqttPahoMessageDrivenChannelAdapter(CLIENT_ID, mqttClientFactory, TOPIC);
+                new MqttPahoMessageDrivenChannelAdapter(clientId, mqttClientFactory, subscriptions());
         adapter.setCompletionTimeout(5000);
-        adapter.setConverter(new DefaultPahoMessageConverter());
+        DefaultPahoMessageConverter converter = new DefaultPahoMessageConverter();
+        converter.setPayloadAsBytes(true);
+        adapter.setConverter(converter);
         adapter.setQos(1);
         adapter.setOutputChannel(mqttInputChannel);
         return adapter;
     }
+
+    // Devices publish to <topic>/<materialID>; the unpartitioned topics stay subscribed for older firmware.
+    // With a shared subscription the broker hands each message to one node of the group.
+    private String[] subscriptions() {
+        String[] topics = {
+                properties.getTopic(),
+                properties.getTopic() + "/+",
+                properties.getBinaryTopic(),
+                properties.getBinaryTopic() + "/+"
+        };
+        if (properties.isSharedSubscription()) {
+            for (int i = 0; i < topics.length; i++) {
+                topics[i] = "$share/" + properties.getSharedGroup() + "/" + topics[i];
+            }
+        }
+        return topics;
+    }
 }
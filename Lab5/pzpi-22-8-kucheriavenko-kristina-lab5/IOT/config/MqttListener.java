@@ -1,10 +1,8 @@
 package com.BiologicalMaterialsSystem.config;
 
-import com.BiologicalMaterialsSystem.model.StorageCondition;
-import com.BiologicalMaterialsSystem.service.StorageConditionService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
@@ -12,17 +10,22 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MqttListener {
 
-    private final StorageConditionService storageConditionService;
-    private final ObjectMapper objectMapper;
+    private final SensorPayloadHandler payloadHandler;
+    private final MqttProperties mqttProperties;
 
     @ServiceActivator(inputChannel = "mqttInputChannel")
-    public void handleMqttMessage(Message<String> message) {
+    public void handleMqttMessage(Message<byte[]> message) {
         try {
-            String payload = message.getPayload();
-            StorageCondition condition = objectMapper.readValue(payload, StorageCondition.class);
-
-            storageConditionService.createCondition(condition);
-            System.out.println("Дані збережено в базі: " + condition);
+            byte[] payload = message.getPayload();
+            String topic = message.getHeaders().get(MqttHeaders.RECEIVED_TOPIC, String.class);
+            if (!mqttProperties.isBinaryTopic(topic)) {
+                payloadHandler.handleJson(payload);
+            } else if (payloadHandler.handleBinary(payload, payload.length, true) < 0) {
+                System.err.println("Невідомий формат бінарного MQTT повідомлення, довжина " + payload.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Обробку MQTT повідомлення перервано: " + e.getMessage());
         } catch (Exception e) {
             System.err.println("Помилка при обробці MQTT повідомлення: " + e.getMessage());
         }
@@ -0,0 +1,38 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "mqtt")
+public class MqttProperties {
+    private String brokerUrl = "tcp://broker.emqx.io:1883";
+    private String clientIdPrefix = "spring_mqtt_client";
+    private String topic = "storage-conditions";
+    private String binaryTopic = "storage-conditions-bin";
+    private boolean sharedSubscription = true;
+    private String sharedGroup = "biological-materials-ingest";
+
+    public String getBrokerUrl() { return brokerUrl; }
+    public void setBrokerUrl(String brokerUrl) { this.brokerUrl = brokerUrl; }
+
+    public String getClientIdPrefix() { return clientIdPrefix; }
+    public void setClientIdPrefix(String clientIdPrefix) { this.clientIdPrefix = clientIdPrefix; }
+
+    public String getTopic() { return topic; }
+    public void setTopic(String topic) { this.topic = topic; }
+
+    public String getBinaryTopic() { return binaryTopic; }
+    public void setBinaryTopic(String binaryTopic) { this.binaryTopic = binaryTopic; }
+
+    public boolean isSharedSubscription() { return sharedSubscription; }
+    public void setSharedSubscription(boolean sharedSubscription) { this.sharedSubscription = sharedSubscription; }
+
+    public String getSharedGroup() { return sharedGroup; }
+    public void setSharedGroup(String sharedGroup) { this.sharedGroup = sharedGroup; }
+
+    public boolean isBinaryTopic(String receivedTopic) {
+        return receivedTopic != null
+                && (receivedTopic.equals(binaryTopic) || receivedTopic.startsWith(binaryTopic + "/"));
+    }
+}
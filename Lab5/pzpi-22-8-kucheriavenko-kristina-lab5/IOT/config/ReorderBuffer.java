@@ -0,0 +1,70 @@
+package com.BiologicalMaterialsSystem.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Holds each material's readings and releases them in measurement-time order. A reading is released
+// once the material's watermark (its newest measurement time minus windowMillis) has passed it, or
+// once it has waited windowMillis since it was received, so a silent device never holds data back.
+// Not thread-safe: used by the drainer thread of one ingest lane, and on shutdown by the stopping thread
+// once the drainer has exited. Only size() is read from other threads (the ingest statistics); it is
+// a volatile written by a single thread at a time, so readers see a recent value without locking.
+class ReorderBuffer {
+
+    private static final Comparator<SensorReading> EVENT_ORDER =
+            Comparator.comparingLong(SensorReading::getMeasurementTime)
+                    .thenComparingLong(SensorReading::getReceivedTime);
+
+    private final long windowMillis;
+    private final Map<Long, MaterialBuffer> materials = new HashMap<>();
+
+    private volatile int size;
+
+    ReorderBuffer(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    void add(SensorReading reading) {
+        MaterialBuffer buffer = materials.computeIfAbsent(reading.getMaterialId(), id -> new MaterialBuffer());
+        buffer.pending.add(reading);
+        buffer.maxEventTime = Math.max(buffer.maxEventTime, reading.getMeasurementTime());
+        size++;
+    }
+
+    List<SensorReading> release(long now) {
+        List<SensorReading> ready = new ArrayList<>();
+        Iterator<MaterialBuffer> iterator = materials.values().iterator();
+        while (iterator.hasNext()) {
+            MaterialBuffer buffer = iterator.next();
+            long watermark = buffer.maxEventTime - windowMillis;
+            SensorReading head;
+            while ((head = buffer.pending.peek()) != null
+                    && (head.getMeasurementTime() <= watermark || head.getReceivedTime() <= now - windowMillis)) {
+                ready.add(buffer.pending.poll());
+            }
+            if (buffer.pending.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        size -= ready.size();
+        return ready;
+    }
+
+    List<SensorReading> releaseAll() {
+        return release(Long.MAX_VALUE);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static final class MaterialBuffer {
+        private final PriorityQueue<SensorReading> pending = new PriorityQueue<>(EVENT_ORDER);
+        private long maxEventTime = Long.MIN_VALUE;
+    }
+}
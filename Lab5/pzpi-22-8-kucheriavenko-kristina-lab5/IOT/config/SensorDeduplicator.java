@@ -0,0 +1,68 @@
+package com.BiologicalMaterialsSystem.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Remembers (deviceID, materialID, measurementTime) of recently accepted readings so that retained messages
+// and QoS 1 redeliveries are dropped before any scoring or database work. The set is bounded by
+// both size and age; readings without a device timestamp are never treated as duplicates.
+// A reading that is later dropped from a full queue or fails to be written is released, so its redelivery is accepted.
+@Component
+@RequiredArgsConstructor
+public class SensorDeduplicator {
+
+    private final IngestProperties properties;
+
+    private final LinkedHashMap<Key, Long> seen = new LinkedHashMap<>();
+    private final LongAdder duplicates = new LongAdder();
+
+    public boolean isDuplicate(SensorReading reading) {
+        if (reading.getMeasurementTime() == SensorReading.NO_TIME) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Key key = Key.of(reading);
+        synchronized (seen) {
+            evict(now);
+            if (seen.putIfAbsent(key, now) != null) {
+                duplicates.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public void release(SensorReading reading) {
+        synchronized (seen) {
+            seen.remove(Key.of(reading));
+        }
+    }
+
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    private void evict(long now) {
+        Iterator<Map.Entry<Key, Long>> iterator = seen.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Long> eldest = iterator.next();
+            if (seen.size() < properties.getDedupCapacity()
+                    && now - eldest.getValue() < properties.getDedupTtlMillis()) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    private record Key(long deviceId, long materialId, long measurementTime) {
+
+        private static Key of(SensorReading reading) {
+            return new Key(reading.getDeviceId(), reading.getMaterialId(), reading.getMeasurementTime());
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// Reads the flat JSON object published by esp32-dht22.ino directly from the MQTT payload bytes.
+// Anything outside that shape (escapes, exponents, unknown keys) makes decode return false,
+// and the caller falls back to Jackson.
+@Component
+public class SensorPayloadDecoder {
+
+    private static final byte[] TEMPERATURE = "temperature".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HUMIDITY = "humidity".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] OXYGEN_LEVEL = "oxygenLevel".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MEASUREMENT_TIME = "measurementTime".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MATERIAL_ID = "materialID".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int MAX_DIGITS = 15;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    public boolean decode(byte[] payload, SensorReading reading) {
+        reading.reset();
+        int i = skipWhitespace(payload, 0);
+        if (i >= payload.length || payload[i] != '{') {
+            return false;
+        }
+        i = skipWhitespace(payload, i + 1);
+        while (i < payload.length && payload[i] == '"') {
+            int keyStart = i + 1;
+            int keyEnd = indexOf(payload, keyStart, (byte) '"');
+            if (keyEnd < 0) {
+                return false;
+            }
+            i = skipWhitespace(payload, keyEnd + 1);
+            if (i >= payload.length || payload[i] != ':') {
+                return false;
+            }
+            i = readValue(payload, keyStart, keyEnd, skipWhitespace(payload, i + 1), reading);
+            if (i < 0) {
+                return false;
+            }
+            i = skipWhitespace(payload, i);
+            if (i < payload.length && payload[i] == '}') {
+                return reading.isComplete();
+            }
+            if (i >= payload.length || payload[i] != ',') {
+                return false;
+            }
+            i = skipWhitespace(payload, i + 1);
+        }
+        return false;
+    }
+
+    private int readValue(byte[] p, int keyStart, int keyEnd, int i, SensorReading reading) {
+        if (matches(p, keyStart, keyEnd, MATERIAL_ID)) {
+            return readMaterialId(p, i, reading);
+        }
+        if (matches(p, keyStart, keyEnd, MEASUREMENT_TIME)) {
+            return readTimestamp(p, i, reading);
+        }
+
+        int end = numberEnd(p, i);
+        double value = parseDouble(p, i, end);
+        if (Double.isNaN(value)) {
+            return -1;
+        }
+        if (matches(p, keyStart, keyEnd, TEMPERATURE)) {
+            reading.setTemperature(value);
+        } else if (matches(p, keyStart, keyEnd, HUMIDITY)) {
+            reading.setHumidity(value);
+        } else if (matches(p, keyStart, keyEnd, OXYGEN_LEVEL)) {
+            reading.setOxygenLevel(value);
+        } else {
+            return -1;
+        }
+        return end;
+    }
+
+    // Accepts both "materialID": 1 and the entity form "materialID": { "materialID": 1 }.
+    private int readMaterialId(byte[] p, int i, SensorReading reading) {
+        boolean nested = i < p.length && p[i] == '{';
+        if (nested) {
+            i = skipWhitespace(p, i + 1);
+            if (i >= p.length || p[i] != '"') {
+                return -1;
+            }
+            int keyEnd = indexOf(p, i + 1, (byte) '"');
+            if (keyEnd < 0 || !matches(p, i + 1, keyEnd, MATERIAL_ID)) {
+                return -1;
+            }
+            i = skipWhitespace(p, keyEnd + 1);
+            if (i >= p.length || p[i] != ':') {
+                return -1;
+            }
+            i = skipWhitespace(p, i + 1);
+        }
+
+        int end = numberEnd(p, i);
+        long materialId = parseLong(p, i, end);
+        if (materialId < 0) {
+            return -1;
+        }
+        reading.setMaterialId(materialId);
+
+        if (nested) {
+            end = skipWhitespace(p, end);
+            if (end >= p.length || p[end] != '}') {
+                return -1;
+            }
+            end++;
+        }
+        return end;
+    }
+
+    // Accepts epoch milliseconds or yyyy-MM-ddTHH:mm:ss[.SSS](Z|+HH:MM|-HH:MM).
+    private int readTimestamp(byte[] p, int i, SensorReading reading) {
+        if (i < p.length && p[i] != '"') {
+            int end = numberEnd(p, i);
+            long millis = parseLong(p, i, end);
+            if (millis < 0) {
+                return -1;
+            }
+            reading.setMeasurementTime(millis);
+            return end;
+        }
+
+        int start = i + 1;
+        int end = indexOf(p, start, (byte) '"');
+        if (end < 0 || end - start < 19 || p[start + 4] != '-' || p[start + 7] != '-'
+                || p[start + 10] != 'T' || p[start + 13] != ':' || p[start + 16] != ':') {
+            return -1;
+        }
+        int year = parseInt(p, start, start + 4);
+        int month = parseInt(p, start + 5, start + 7);
+        int day = parseInt(p, start + 8, start + 10);
+        int hour = parseInt(p, start + 11, start + 13);
+        int minute = parseInt(p, start + 14, start + 16);
+        int second = parseInt(p, start + 17, start + 19);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+
+        int j = start + 19;
+        int millis = 0;
+        if (j < end && p[j] == '.') {
+            int digits = 0;
+            for (j++; j < end && p[j] >= '0' && p[j] <= '9'; j++, digits++) {
+                if (digits < 3) {
+                    millis = millis * 10 + (p[j] - '0');
+                }
+            }
+            if (digits == 0) {
+                return -1;
+            }
+            for (; digits < 3; digits++) {
+                millis *= 10;
+            }
+        }
+
+        int offsetMinutes = 0;
+        if (j < end && p[j] == 'Z') {
+            j++;
+        } else if (j + 6 == end && (p[j] == '+' || p[j] == '-') && p[j + 3] == ':') {
+            int offsetHours = parseInt(p, j + 1, j + 3);
+            int offsetMins = parseInt(p, j + 4, j + 6);
+            if (offsetHours < 0 || offsetMins < 0) {
+                return -1;
+            }
+            offsetMinutes = (offsetHours * 60 + offsetMins) * (p[j] == '-' ? -1 : 1);
+            j = end;
+        }
+        if (j != end) {
+            return -1;
+        }
+
+        long epochSeconds = daysFromCivil(year, month, day) * 86400L
+                + hour * 3600L + minute * 60L + second - offsetMinutes * 60L;
+        reading.setMeasurementTime(epochSeconds * 1000 + millis);
+        return end + 1;
+    }
+
+    private static double parseDouble(byte[] p, int start, int end) {
+        int i = start;
+        boolean negative = i < end && p[i] == '-';
+        if (negative) {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = p[i];
+            if (b == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (b < '0' || b > '9' || ++digits > MAX_DIGITS) {
+                return Double.NaN;
+            }
+            mantissa = mantissa * 10 + (b - '0');
+            if (fraction) {
+                scale++;
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        // Both operands are exact doubles, so the division rounds the same way as Double.parseDouble.
+        double value = mantissa / POW10[scale];
+        return negative ? -value : value;
+    }
+
+    private static long parseLong(byte[] p, int start, int end) {
+        if (start >= end || end - start > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            if (p[i] < '0' || p[i] > '9') {
+                return -1;
+            }
+            value = value * 10 + (p[i] - '0');
+        }
+        return value;
+    }
+
+    private static int parseInt(byte[] p, int start, int end) {
+        return (int) parseLong(p, start, end);
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        int era = (year >= 0 ? year : year - 399) / 400;
+        int yearOfEra = year - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static int numberEnd(byte[] p, int i) {
+        while (i < p.length && (p[i] == '-' || p[i] == '.' || (p[i] >= '0' && p[i] <= '9'))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhitespace(byte[] p, int i) {
+        while (i < p.length && (p[i] == ' ' || p[i] == '\t' || p[i] == '\n' || p[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOf(byte[] p, int from, byte value) {
+        for (int i = from; i < p.length; i++) {
+            if (p[i] == '\\') {
+                return -1;
+            }
+            if (p[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matches(byte[] p, int start, int end, byte[] key) {
+        if (end - start != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (p[start + i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
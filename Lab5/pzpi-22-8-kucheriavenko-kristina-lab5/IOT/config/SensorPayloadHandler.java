@@ -0,0 +1,84 @@
+package com.BiologicalMaterialsSystem.config;
+
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+// Decodes sensor payloads from any transport, drops duplicates and hands readings to the ingest pipeline.
+@Component
+@RequiredArgsConstructor
+public class SensorPayloadHandler {
+
+    private final StorageConditionIngestPipeline ingestPipeline;
+    private final SensorPayloadDecoder payloadDecoder;
+    private final BinarySensorPayloadDecoder binaryPayloadDecoder;
+    private final SensorDeduplicator deduplicator;
+    private final ObjectMapper objectMapper;
+
+    private final ThreadLocal<SensorReading> readings = ThreadLocal.withInitial(SensorReading::new);
+
+    private ObjectReader conditionReader;
+
+    // Strict dates: a lenient reader would turn 2024-02-31 into 2024-03-02 instead of rejecting it.
+    @PostConstruct
+    public void init() {
+        conditionReader = objectMapper.copy().setDefaultLeniency(false).readerFor(StorageCondition.class);
+    }
+
+    public void handleJson(byte[] payload) throws IOException, InterruptedException {
+        SensorReading reading = readings.get();
+        if (!payloadDecoder.decode(payload, reading)) {
+            readWithJackson(payload, reading);
+        }
+        submit(reading, true);
+    }
+
+    // Returns the number of samples dropped because a lane queue was full, or -1 if the payload is not
+    // a valid binary message. With wait = false the caller is never blocked, even under the BLOCK policy.
+    public int handleBinary(byte[] payload, int length, boolean wait) throws InterruptedException {
+        int sampleCount = binaryPayloadDecoder.sampleCount(payload, length);
+        if (sampleCount < 0) {
+            return -1;
+        }
+        SensorReading reading = readings.get();
+        int dropped = 0;
+        for (int i = 0; i < sampleCount; i++) {
+            binaryPayloadDecoder.decodeSample(payload, i, reading);
+            if (!submit(reading, wait)) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    // A future device time is clamped before the duplicate check, so the key is the one the pipeline
+    // later releases when the reading is dropped or fails to be written.
+    private boolean submit(SensorReading reading, boolean wait) throws InterruptedException {
+        long now = System.currentTimeMillis();
+        if (reading.getMeasurementTime() > now) {
+            reading.setMeasurementTime(now);
+        }
+        return deduplicator.isDuplicate(reading) || ingestPipeline.submit(reading, wait);
+    }
+
+    // Payloads the fast decoder does not understand (other field order, extra fields) go through Jackson.
+    private void readWithJackson(byte[] payload, SensorReading reading) throws IOException {
+        StorageCondition condition = conditionReader.readValue(payload);
+        if (condition.getMaterialID() == null || condition.getMaterialID().getMaterialID() == null) {
+            throw new IOException("Sensor payload has no material ID");
+        }
+        reading.reset();
+        reading.setTemperature(condition.getTemperature());
+        reading.setHumidity(condition.getHumidity());
+        reading.setOxygenLevel(condition.getOxygenLevel());
+        reading.setMaterialId(condition.getMaterialID().getMaterialID());
+        if (condition.getMeasurementTime() != null) {
+            reading.setMeasurementTime(condition.getMeasurementTime().getTime());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.BiologicalMaterialsSystem.config;
+
+import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+// Mutable holder filled by the payload decoders and reused by the thread that decodes messages.
+// The ingest pipeline queues copies of it and builds the StorageCondition entity only when writing.
+@Getter
+@Setter
+public class SensorReading {
+
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private double temperature;
+    private double humidity;
+    private double oxygenLevel;
+    private long measurementTime;
+    private long receivedTime;
+    private long materialId;
+    private long deviceId;
+    // Position in the ingest journal, or -1 for readings that did not come from it.
+    private long sequence;
+
+    public SensorReading() {
+        reset();
+    }
+
+    public void reset() {
+        temperature = Double.NaN;
+        humidity = Double.NaN;
+        oxygenLevel = Double.NaN;
+        measurementTime = NO_TIME;
+        receivedTime = NO_TIME;
+        materialId = -1;
+        deviceId = -1;
+        sequence = -1;
+    }
+
+    public boolean isComplete() {
+        return !Double.isNaN(temperature) && !Double.isNaN(humidity) && !Double.isNaN(oxygenLevel)
+                && materialId >= 0;
+    }
+
+    public SensorReading copy() {
+        SensorReading copy = new SensorReading();
+        copy.temperature = temperature;
+        copy.humidity = humidity;
+        copy.oxygenLevel = oxygenLevel;
+        copy.measurementTime = measurementTime;
+        copy.receivedTime = receivedTime;
+        copy.materialId = materialId;
+        copy.deviceId = deviceId;
+        copy.sequence = sequence;
+        return copy;
+    }
+
+    public StorageCondition toCondition() {
+        BiologicalMaterial material = new BiologicalMaterial();
+        material.setMaterialID(materialId);
+
+        StorageCondition condition = new StorageCondition();
+        condition.setTemperature(temperature);
+        condition.setHumidity(humidity);
+        condition.setOxygenLevel(oxygenLevel);
+        condition.setMeasurementTime(measurementTime != NO_TIME ? new Date(measurementTime) : null);
+        condition.setReceivedTime(receivedTime != NO_TIME ? new Date(receivedTime) : null);
+        condition.setMaterialID(material);
+        return condition;
+    }
+}
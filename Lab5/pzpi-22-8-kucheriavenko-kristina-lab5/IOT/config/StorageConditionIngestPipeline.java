@@ -0,0 +1,341 @@
+package com.BiologicalMaterialsSystem.config;
+
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.BiologicalMaterialsSystem.service.StorageConditionService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Readings are partitioned by material ID onto lanes, each with its own queue and writer thread.
+// Different materials are scored and persisted in parallel, while the readings of one material
+// always go through the same lane and are written in measurement-time order.
+@Component
+@RequiredArgsConstructor
+public class StorageConditionIngestPipeline {
+
+    private final StorageConditionService storageConditionService;
+    private final IngestProperties properties;
+    private final SensorDeduplicator deduplicator;
+
+    private final LongAdder received = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private Lane[] lanes;
+    private IngestJournal journal;
+    private volatile boolean stopping;
+
+    @PostConstruct
+    public void start() {
+        int laneCount = Math.max(1, properties.getLanes());
+        int laneCapacity = Math.max(1, properties.getQueueCapacity() / laneCount);
+        lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane("storage-condition-ingest-" + i, laneCapacity);
+        }
+
+        if (properties.isJournalEnabled()) {
+            journal = new IngestJournal(properties, reading -> dispatch(reading, true), this::lowestUnfinished);
+            try {
+                journal.open();
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot open ingest journal in " + properties.getJournalDirectory(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+        if (journal != null) {
+            journal.stopReplay();
+        }
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    // Stamps the server receive time; a missing or future device time falls back to it.
+    // With the journal enabled the reading is only appended here and replayed into the lanes later.
+    // The caller may reuse the reading afterwards: the lanes get a copy. With wait = false a full lane
+    // under the BLOCK policy drops the reading instead of blocking; returns false if it was dropped.
+    public boolean submit(SensorReading reading, boolean wait) throws InterruptedException {
+        received.increment();
+        long now = System.currentTimeMillis();
+        reading.setReceivedTime(now);
+        if (reading.getMeasurementTime() == SensorReading.NO_TIME || reading.getMeasurementTime() > now) {
+            reading.setMeasurementTime(now);
+        }
+        if (journal != null) {
+            try {
+                journal.append(reading);
+                return true;
+            } catch (IOException e) {
+                System.err.println("Не вдалося записати показник до журналу: " + e.getMessage());
+            }
+        }
+        return dispatch(reading.copy(), wait);
+    }
+
+    // A journal reading is registered as unfinished before the lane can see it and stays so until it is
+    // written, rejected or dropped. The journal checkpoint never moves past the lowest unfinished reading.
+    private boolean dispatch(SensorReading reading, boolean wait) throws InterruptedException {
+        Lane lane = lane(reading);
+        if (reading.getSequence() >= 0) {
+            lane.unfinished.add(reading.getSequence());
+        }
+        try {
+            return lane.submit(reading.getMaterialId(), reading, wait);
+        } catch (InterruptedException e) {
+            finish(reading);
+            throw e;
+        }
+    }
+
+    private Lane lane(SensorReading reading) {
+        return lanes[Math.floorMod(Long.hashCode(reading.getMaterialId()), lanes.length)];
+    }
+
+    private void finish(SensorReading reading) {
+        if (reading.getSequence() >= 0) {
+            lane(reading).unfinished.remove(reading.getSequence());
+        }
+    }
+
+    private long lowestUnfinished() {
+        long lowest = Long.MAX_VALUE;
+        for (Lane lane : lanes) {
+            Long first = lane.unfinished.ceiling(0L);
+            if (first != null) {
+                lowest = Math.min(lowest, first);
+            }
+        }
+        return lowest;
+    }
+
+    private void drop(SensorReading reading) {
+        dropped.increment();
+        deduplicator.release(reading);
+        finish(reading);
+    }
+
+    private void reject(SensorReading reading) {
+        failed.increment();
+        deduplicator.release(reading);
+        finish(reading);
+    }
+
+    public int getQueueSize() {
+        int size = 0;
+        for (Lane lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    public Map<String, Long> getStats() {
+        long capacity = 0;
+        for (Lane lane : lanes) {
+            capacity += lane.queue.capacity();
+        }
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queueSize", (long) getQueueSize());
+        stats.put("queueCapacity", capacity);
+        stats.put("received", received.sum());
+        stats.put("duplicates", deduplicator.getDuplicates());
+        stats.put("processed", processed.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("failed", failed.sum());
+        stats.put("lagMillis", lagMillis.get());
+        stats.put("journalBacklog", journal != null ? journal.backlog() : 0L);
+        return stats;
+    }
+
+    private void write(List<SensorReading> batch) {
+        for (int from = 0; from < batch.size(); from += properties.getBatchSize()) {
+            List<SensorReading> chunk = batch.subList(from, Math.min(batch.size(), from + properties.getBatchSize()));
+            try {
+                createWithRetry(toConditions(chunk));
+                processed.add(chunk.size());
+                chunk.forEach(this::finish);
+            } catch (RuntimeException e) {
+                if (!DatabaseErrors.isTransient(e) && chunk.size() > 1) {
+                    writeEach(chunk);
+                } else {
+                    System.err.println("Помилка при записі показників (" + chunk.size() + " записів): " + e.getMessage());
+                    if (!abandoned(e)) {
+                        chunk.forEach(this::reject);
+                    }
+                }
+            } finally {
+                lagMillis.set(System.currentTimeMillis() - chunk.get(0).getReceivedTime());
+            }
+        }
+    }
+
+    // A chunk is written in one transaction, so a single bad reading (e.g. of an unknown material)
+    // rolls back the whole chunk. Its readings are then written one by one and only the bad ones are lost.
+    private void writeEach(List<SensorReading> chunk) {
+        for (SensorReading reading : chunk) {
+            try {
+                createWithRetry(List.of(reading.toCondition()));
+                processed.increment();
+                finish(reading);
+            } catch (RuntimeException e) {
+                System.err.println("Показник матеріалу " + reading.getMaterialId() + " відхилено: " + e.getMessage());
+                if (!abandoned(e)) {
+                    reject(reading);
+                }
+            }
+        }
+    }
+
+    // Entities are built only here, so queued readings stay small until they are written.
+    private static List<StorageCondition> toConditions(List<SensorReading> readings) {
+        List<StorageCondition> conditions = new ArrayList<>(readings.size());
+        for (SensorReading reading : readings) {
+            conditions.add(reading.toCondition());
+        }
+        return conditions;
+    }
+
+    // A chunk that fails on a connection or timeout error has been rolled back, so with the journal
+    // enabled the lane waits and retries instead of losing it.
+    private void createWithRetry(List<StorageCondition> chunk) {
+        while (true) {
+            try {
+                storageConditionService.createConditions(chunk);
+                return;
+            } catch (RuntimeException e) {
+                if (journal == null || stopping || !DatabaseErrors.isTransient(e)) {
+                    throw e;
+                }
+                System.err.println("База даних недоступна, повторний запис показників: " + e.getMessage());
+                try {
+                    Thread.sleep(properties.getFlushIntervalMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // With the journal enabled, a chunk that still fails on a transient error can only be one given up
+    // during shutdown. It is left unfinished, so it is replayed from the journal after the restart.
+    private boolean abandoned(RuntimeException e) {
+        return journal != null && DatabaseErrors.isTransient(e);
+    }
+
+    private final class Lane {
+        private final BatchingQueue<SensorReading> queue;
+        private final ConcurrentSkipListSet<Long> unfinished = new ConcurrentSkipListSet<>();
+        // LATEST_PER_MATERIAL: the newest reading of each material that did not fit into the queue.
+        private final Map<Long, SensorReading> latest = new ConcurrentHashMap<>();
+        private final ReorderBuffer reorder =
+                properties.getReorderWindowMillis() > 0 ? new ReorderBuffer(properties.getReorderWindowMillis()) : null;
+
+        private Lane(String name, int capacity) {
+            queue = new BatchingQueue<>(name, capacity, properties.getBatchSize(),
+                    properties.getFlushIntervalMillis(), this::accept, this::idle);
+            queue.start();
+        }
+
+        private boolean submit(long materialId, SensorReading reading, boolean wait) throws InterruptedException {
+            switch (properties.getOverflowPolicy()) {
+                case BLOCK -> {
+                    if (wait) {
+                        queue.put(reading);
+                    } else if (!queue.offer(reading)) {
+                        drop(reading);
+                        return false;
+                    }
+                }
+                case DROP_OLDEST -> {
+                    while (!queue.offer(reading)) {
+                        SensorReading oldest = queue.removeOldest();
+                        if (oldest != null) {
+                            drop(oldest);
+                        }
+                    }
+                }
+                case LATEST_PER_MATERIAL -> latest.compute(materialId, (id, held) -> {
+                    if (held == null && queue.offer(reading)) {
+                        return null;
+                    }
+                    if (held != null) {
+                        drop(held);
+                    }
+                    return reading;
+                });
+            }
+            return true;
+        }
+
+        private void accept(List<SensorReading> batch) {
+            if (reorder == null) {
+                write(batch);
+                return;
+            }
+            for (SensorReading reading : batch) {
+                reorder.add(reading);
+            }
+            write(reorder.release(System.currentTimeMillis()));
+        }
+
+        // Runs on the drainer thread before every poll.
+        private void idle() {
+            refill();
+            if (reorder != null && reorder.size() > 0) {
+                write(reorder.release(System.currentTimeMillis()));
+            }
+        }
+
+        // Moves held-back readings into the queue as space frees up. The move runs inside compute, like
+        // the LATEST_PER_MATERIAL branch of submit, so a newer reading of the same material cannot enter
+        // the queue between the removal and the offer and overtake the held one.
+        private void refill() {
+            for (Long materialId : latest.keySet()) {
+                if (latest.computeIfPresent(materialId, (id, reading) -> queue.offer(reading) ? null : reading) != null) {
+                    return;
+                }
+            }
+        }
+
+        // queue.stop() returns once the drainer has exited, so the held-back readings and the
+        // reorder buffer are no longer touched by it and can be written from this thread.
+        private void stop() {
+            queue.stop();
+            List<SensorReading> held = new ArrayList<>(latest.values());
+            latest.clear();
+            if (reorder == null) {
+                write(held);
+                return;
+            }
+            for (SensorReading reading : held) {
+                reorder.add(reading);
+            }
+            write(reorder.releaseAll());
+        }
+
+        private int size() {
+            return queue.size() + latest.size() + (reorder != null ? reorder.size() : 0);
+        }
+    }
+}
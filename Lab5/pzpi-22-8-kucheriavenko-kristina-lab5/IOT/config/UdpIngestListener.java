@@ -0,0 +1,138 @@
+package com.BiologicalMaterialsSystem.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+// Receives binary payload v1 datagrams on a non-blocking channel. A single thread drains every
+// datagram available after each wake-up into one reused buffer; no reply is sent.
+// Datagrams carry no credentials: only the source address is checked against allowed-sources, and that
+// address can be spoofed, so the port should only be reachable from a trusted network.
+// The receive thread never waits for queue space; readings that do not fit are dropped and counted.
+@Component
+@RequiredArgsConstructor
+public class UdpIngestListener {
+
+    private static final int MAX_DATAGRAM_SIZE = 65535;
+
+    private final UdpIngestProperties properties;
+    private final SensorPayloadHandler payloadHandler;
+
+    private final LongAdder datagrams = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder unauthorized = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+
+    private final Set<InetAddress> allowedSources = new HashSet<>();
+    private DatagramChannel channel;
+    private Selector selector;
+    private Thread receiver;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        for (String source : properties.getAllowedSources()) {
+            allowedSources.add(InetAddress.getByName(source.trim()));
+        }
+        if (allowedSources.isEmpty() && !InetAddress.getByName(properties.getHost()).isLoopbackAddress()) {
+            System.err.println("UDP показники приймаються від будь-якої адреси на " + properties.getHost()
+                    + ". Вкажіть udp.ingest.allowed-sources або адресу довіреної мережі в udp.ingest.host");
+        }
+        selector = Selector.open();
+        channel = DatagramChannel.open();
+        channel.setOption(StandardSocketOptions.SO_RCVBUF, properties.getReceiveBufferBytes());
+        channel.bind(new InetSocketAddress(properties.getHost(), properties.getPort()));
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_READ);
+
+        running = true;
+        receiver = new Thread(this::receiveLoop, "udp-ingest");
+        receiver.setDaemon(true);
+        receiver.start();
+        System.out.println("Приймання показників по UDP на порту " + properties.getPort());
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (receiver == null) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        try {
+            receiver.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        selector.close();
+    }
+
+    public long getDatagrams() {
+        return datagrams.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getUnauthorized() {
+        return unauthorized.sum();
+    }
+
+    public long getOverflow() {
+        return overflow.sum();
+    }
+
+    private void receiveLoop() {
+        ByteBuffer buffer = ByteBuffer.allocate(MAX_DATAGRAM_SIZE);
+        byte[] payload = buffer.array();
+        while (running) {
+            try {
+                selector.select();
+                selector.selectedKeys().clear();
+                SocketAddress source;
+                while (running && (source = channel.receive(buffer.clear())) != null) {
+                    datagrams.increment();
+                    if (!isAllowed(source)) {
+                        unauthorized.increment();
+                        continue;
+                    }
+                    int dropped = payloadHandler.handleBinary(payload, buffer.position(), false);
+                    if (dropped < 0) {
+                        rejected.increment();
+                    } else {
+                        overflow.add(dropped);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("Помилка при прийманні UDP показників: " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean isAllowed(SocketAddress source) {
+        return allowedSources.isEmpty()
+                || source instanceof InetSocketAddress address && allowedSources.contains(address.getAddress());
+    }
+}
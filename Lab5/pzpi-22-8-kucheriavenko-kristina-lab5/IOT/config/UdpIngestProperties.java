@@ -0,0 +1,32 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "udp.ingest")
+public class UdpIngestProperties {
+    private boolean enabled = false;
+    private String host = "0.0.0.0";
+    private int port = 5700;
+    private int receiveBufferBytes = 4 * 1024 * 1024;
+    private List<String> allowedSources = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getHost() { return host; }
+    public void setHost(String host) { this.host = host; }
+
+    public int getPort() { return port; }
+    public void setPort(int port) { this.port = port; }
+
+    public int getReceiveBufferBytes() { return receiveBufferBytes; }
+    public void setReceiveBufferBytes(int receiveBufferBytes) { this.receiveBufferBytes = receiveBufferBytes; }
+
+    public List<String> getAllowedSources() { return allowedSources; }
+    public void setAllowedSources(List<String> allowedSources) { this.allowedSources = allowedSources; }
+}
@@ -4,9 +4,9 @@ import com.BiologicalMaterialsSystem.model.*;
 import com.BiologicalMaterialsSystem.repositories.StorageConditionRepository;
 import com.BiologicalMaterialsSystem.repositories.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,14 +15,19 @@ import java.util.Map;
 public class StorageConditionService {
     private final StorageConditionRepository repository;
     private final EventLogService eventLogService;
+    private final MaterialStatisticsService materialStatisticsService;
 
+    @Transactional
     public void createCondition(User user, StorageCondition condition) {
+        materialStatisticsService.record(condition);
         repository.save(condition);
         String logMessage = logMessage(condition, "admin with ID " + user.getUserID());
         eventLogService.logAction(user, logMessage);
     }
 
+    @Transactional
     public void createCondition(StorageCondition condition) {
+        materialStatisticsService.record(condition);
         repository.save(condition);
         String logMessage = logMessage(condition, "IOT");
         eventLogService.logAction(null, logMessage);
@@ -51,15 +56,7 @@ public class StorageConditionService {
     }
 
     public Map<String, Double> calculateAverageValues(Long materialId) {
-        List<Object[]> averages = repository.findAverageValuesByMaterialId(materialId);
-        Map<String, Double> averagesMap = new HashMap<>();
-        if (averages != null && !averages.isEmpty()) {
-            Object[] avgValues = averages.get(0);
-            averagesMap.put("avgTemperature", (Double) avgValues[0]);
-            averagesMap.put("avgOxygenLevel", (Double) avgValues[1]);
-            averagesMap.put("avgHumidity", (Double) avgValues[2]);
-        }
-        return averagesMap;
+        return materialStatisticsService.getAverages(materialId);
     }
 
     public StorageCondition getConditionById(Long id) {
@@ -71,6 +68,7 @@ public class StorageConditionService {
         return repository.findAll();
     }
 
+    @Transactional
     public void updateCondition(User user, Long id, StorageCondition newCondition) {
         StorageCondition condition = getConditionById(id);
 
@@ -79,11 +77,13 @@ public class StorageConditionService {
         double oxygenLevelDeviation = newCondition.getOxygenLevel() - averages.getOrDefault("avgOxygenLevel", 0.0);
         double humidityDeviation = newCondition.getHumidity() - averages.getOrDefault("avgHumidity", 0.0);
 
+        materialStatisticsService.unrecord(condition);
         condition.setTemperature(newCondition.getTemperature());
         condition.setOxygenLevel(newCondition.getOxygenLevel());
         condition.setHumidity(newCondition.getHumidity());
         condition.setMeasurementTime(newCondition.getMeasurementTime());
         condition.setMaterialID(newCondition.getMaterialID());
+        materialStatisticsService.record(condition);
         repository.save(condition);
 
         String logMessage = String.format(
@@ -103,6 +103,7 @@ public class StorageConditionService {
         eventLogService.logAction(user, logMessage);
     }
 
+    @Transactional
     public void deleteCondition(User user, Long id) {
         StorageCondition condition = getConditionById(id);
 
@@ -125,6 +126,7 @@ public class StorageConditionService {
                 humidityDeviation
         );
 
+        materialStatisticsService.unrecord(condition);
         eventLogService.logAction(user, logMessage);
         repository.deleteById(id);
     }
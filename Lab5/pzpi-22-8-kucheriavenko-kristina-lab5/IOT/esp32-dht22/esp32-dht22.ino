@@ -7,14 +7,27 @@
 #define WIFI_PASSWORD ""
 #define WIFI_CHANNEL 6
 
+// true - компактний бінарний формат v1 (тема storage-conditions-bin/<materialID>), false - JSON (тема storage-conditions/<materialID>)
+#define BINARY_PAYLOAD true
+#define SAMPLES_PER_MESSAGE 6
+#define PAYLOAD_VERSION 1
+#define HEADER_SIZE 14
+#define SAMPLE_SIZE 10
+// true - бінарні пакети надсилаються датаграмами UDP на UDP_SERVER:UDP_PORT без MQTT (потребує BINARY_PAYLOAD true)
+#define UDP_TRANSPORT false
+
 WiFiUDP ntpUDP;
-NTPClient timeClient(ntpUDP, "pool.ntp.org", 2, 60000);
+NTPClient timeClient(ntpUDP, "pool.ntp.org", 0, 60000);
 
 char* MQTT_SERVER = "broker.emqx.io"; 
 int MQTT_PORT = 1883;
 char* MQTT_USER = "";
 char* MQTT_PASSWORD = "";
 
+char* UDP_SERVER = "192.168.0.10";
+int UDP_PORT = 5700;
+WiFiUDP udp;
+
 int DHT_PIN = 15;
 int POT_PIN = 34;
 int LED1 = 26;
@@ -25,6 +38,61 @@ DHTesp dhtSensor;
 WiFiClient espClient;
 PubSubClient client(espClient);
 
+uint8_t binaryPayload[HEADER_SIZE + SAMPLES_PER_MESSAGE * SAMPLE_SIZE];
+uint8_t sampleCount = 0;
+
+void putU16(uint8_t* buffer, uint16_t value) {
+  buffer[0] = value >> 8;
+  buffer[1] = value;
+}
+
+void putU32(uint8_t* buffer, uint32_t value) {
+  buffer[0] = value >> 24;
+  buffer[1] = value >> 16;
+  buffer[2] = value >> 8;
+  buffer[3] = value;
+}
+
+void addBinarySample(uint32_t epochTime, float temperature, float humidity, float oxygenLevel) {
+  if (isnan(temperature) || isnan(humidity)) {
+    Serial.println("Некоректні дані датчика, показник пропущено");
+    return;
+  }
+  if (sampleCount == 0) {
+    uint32_t deviceId = (uint32_t) ESP.getEfuseMac();
+    binaryPayload[0] = PAYLOAD_VERSION;
+    putU32(binaryPayload + 2, deviceId);
+    putU32(binaryPayload + 6, 0);
+    putU32(binaryPayload + 10, materialID);
+  }
+  uint8_t* sample = binaryPayload + HEADER_SIZE + sampleCount * SAMPLE_SIZE;
+  putU32(sample, epochTime);
+  putU16(sample + 4, (int16_t) lroundf(temperature * 100));
+  putU16(sample + 6, (uint16_t) lroundf(humidity * 100));
+  putU16(sample + 8, (uint16_t) lroundf(oxygenLevel * 100));
+  sampleCount++;
+  binaryPayload[1] = sampleCount;
+
+  if (sampleCount == SAMPLES_PER_MESSAGE) {
+    size_t length = HEADER_SIZE + sampleCount * SAMPLE_SIZE;
+    bool sent;
+    if (UDP_TRANSPORT) {
+      udp.beginPacket(UDP_SERVER, UDP_PORT);
+      udp.write(binaryPayload, length);
+      sent = udp.endPacket();
+    } else {
+      String topic = "storage-conditions-bin/" + String(materialID);
+      sent = client.publish(topic.c_str(), binaryPayload, length, false);
+    }
+    if (sent) {
+      Serial.println("Пакет показників успішно опубліковано");
+    } else {
+      Serial.println("Не вдалося опублікувати пакет показників");
+    }
+    sampleCount = 0;
+  }
+}
+
 void connectToWiFi() {
   WiFi.begin(WIFI_SSID, WIFI_PASSWORD, WIFI_CHANNEL);
   Serial.print("Під'єднання до WiFi ");
@@ -38,7 +106,8 @@ void connectToWiFi() {
 void connectToMQTT() {
   while (!client.connected()) {
     Serial.print("Підключення до брокера MQTT...");
-    if (client.connect("ESP32Client", MQTT_USER, MQTT_PASSWORD)) {
+    String clientId = "ESP32Client-" + String((uint32_t) ESP.getEfuseMac(), HEX);
+    if (client.connect(clientId.c_str(), MQTT_USER, MQTT_PASSWORD)) {
       Serial.println(" Підключено!");
     } else {
       Serial.print("Не вдалося, код помилки: ");
@@ -55,16 +124,20 @@ void setup() {
 
   connectToWiFi();
 
-  client.setServer(MQTT_SERVER, MQTT_PORT);
-  connectToMQTT();
+  if (!UDP_TRANSPORT) {
+    client.setServer(MQTT_SERVER, MQTT_PORT);
+    connectToMQTT();
+  }
 }
 
 void loop() {
 
-  if (!client.connected()) {
-    connectToMQTT();
+  if (!UDP_TRANSPORT) {
+    if (!client.connected()) {
+      connectToMQTT();
+    }
+    client.loop();
   }
-  client.loop();
 
   timeClient.update();
   
@@ -93,20 +166,25 @@ void loop() {
   Serial.println("Час: " + timestamp);
   Serial.println("---");
 
-  String jsonData = "{";
-  jsonData += "\"temperature\": " + temperature + ", ";
-  jsonData += "\"humidity\": " + humidity + ", ";
-  jsonData += "\"measurementTime\": \"" + timestamp + "\", ";
-  jsonData += "\"materialID\": { \"materialID\": " + String(materialID) + " }, ";
-  jsonData += "\"oxygenLevel\": " + String(oxygenLevel, 1);
-  jsonData += "}";
-
-  Serial.println("JSON: " + jsonData);
-
-  if (client.publish("storage-conditions", jsonData.c_str(), true)) {
-    Serial.println("Дані успішно опубліковано");
+  if (BINARY_PAYLOAD) {
+    addBinarySample(epochTime, data.temperature, data.humidity, oxygenLevel);
   } else {
-    Serial.println("Не вдалося опублікувати дані");
+    String jsonData = "{";
+    jsonData += "\"temperature\": " + temperature + ", ";
+    jsonData += "\"humidity\": " + humidity + ", ";
+    jsonData += "\"measurementTime\": \"" + timestamp + "\", ";
+    jsonData += "\"materialID\": { \"materialID\": " + String(materialID) + " }, ";
+    jsonData += "\"oxygenLevel\": " + String(oxygenLevel, 1);
+    jsonData += "}";
+
+    Serial.println("JSON: " + jsonData);
+
+    String topic = "storage-conditions/" + String(materialID);
+    if (client.publish(topic.c_str(), jsonData.c_str(), false)) {
+      Serial.println("Дані успішно опубліковано");
+    } else {
+      Serial.println("Не вдалося опублікувати дані");
+    }
   }
 
   delay(5000);
@@ -0,0 +1,123 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.config.BinarySensorPayloadDecoder;
+import com.BiologicalMaterialsSystem.config.SensorPayloadDecoder;
+import com.BiologicalMaterialsSystem.config.SensorReading;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import com.BiologicalMaterialsSystem.model.Notification;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class IngestPathBenchmark {
+
+    static final String PAYLOAD = "{\"temperature\": 4.25, \"humidity\": 61.5, " +
+            "\"measurementTime\": \"2025-01-15T10:20:30.000+00:00\", " +
+            "\"materialID\": { \"materialID\": 1 }, \"oxygenLevel\": 20.0}";
+    static final byte[] PAYLOAD_BYTES = PAYLOAD.getBytes(StandardCharsets.UTF_8);
+    // version 1, one sample, device 0x0A0B0C0D, material 1, 2025-01-15T10:20:30Z, 4.25, 61.50, 20.00
+    static final byte[] BINARY_PAYLOAD = {
+            1, 1, 0x0A, 0x0B, 0x0C, 0x0D, 0, 0, 0, 0, 0, 0, 0, 1,
+            0x67, (byte) 0x87, (byte) 0x8B, (byte) 0xEE, 0x01, (byte) 0xA9, 0x18, 0x06, 0x07, (byte) 0xD0
+    };
+
+    private ObjectMapper objectMapper;
+    private SensorPayloadDecoder payloadDecoder;
+    private BinarySensorPayloadDecoder binaryPayloadDecoder;
+    private SensorReading reading;
+    private MaterialProfileCache.MaterialProfile profile;
+    private BiologicalMaterial material;
+    private StorageCondition condition;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        payloadDecoder = new SensorPayloadDecoder();
+        binaryPayloadDecoder = new BinarySensorPayloadDecoder();
+        reading = new SensorReading();
+        profile = new MaterialProfileCache.MaterialProfile(4.0, 60.0, 21.0);
+
+        material = new BiologicalMaterial();
+        material.setMaterialID(1L);
+
+        condition = buildCondition();
+        condition.setZone(StorageZone.GREEN);
+    }
+
+    @Benchmark
+    public StorageCondition decodeJsonPayload() throws Exception {
+        return objectMapper.readValue(PAYLOAD_BYTES, StorageCondition.class);
+    }
+
+    @Benchmark
+    public SensorReading decodeRawPayload() {
+        payloadDecoder.decode(PAYLOAD_BYTES, reading);
+        return reading;
+    }
+
+    @Benchmark
+    public SensorReading decodeBinaryPayload() {
+        int sampleCount = binaryPayloadDecoder.sampleCount(BINARY_PAYLOAD);
+        for (int i = 0; i < sampleCount; i++) {
+            binaryPayloadDecoder.decodeSample(BINARY_PAYLOAD, i, reading);
+        }
+        return reading;
+    }
+
+    @Benchmark
+    public StorageZone scoreAndDetermineZone() {
+        double score = profile.score(condition.getTemperature(), condition.getHumidity(), condition.getOxygenLevel());
+        return StorageZone.fromScore(score);
+    }
+
+    @Benchmark
+    public Map<String, Object> buildLogPayload() {
+        return StorageConditionService.logPayload(condition);
+    }
+
+    @Benchmark
+    public StorageCondition buildCondition() {
+        StorageCondition built = new StorageCondition();
+        built.setTemperature(4.25);
+        built.setHumidity(61.5);
+        built.setOxygenLevel(20.0);
+        built.setMeasurementTime(new Date());
+        built.setMaterialID(material);
+        return built;
+    }
+
+    @Benchmark
+    public Notification buildNotification() {
+        Notification notification = new Notification();
+        notification.setEventType("Hazardous storage conditions");
+        notification.setDetails("Material in the zone: " + StorageZone.YELLOW.name());
+        notification.setNotificationTime(new Date());
+        notification.setMaterialID(material);
+        return notification;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(IngestPathBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
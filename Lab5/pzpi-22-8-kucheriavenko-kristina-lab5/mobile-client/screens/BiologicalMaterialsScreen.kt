@@ -14,6 +14,8 @@ import androidx.compose.ui.unit.dp
 import androidx.navigation.NavController
 import com.example.myapplication.R
 import com.example.myapplication.utils.LocalStorage
+import com.example.myapplication.utils.LOOKUP_LIMIT
+import com.example.myapplication.utils.fetchPage
 import com.google.gson.Gson
 import kotlinx.coroutines.launch
 import retrofit2.Retrofit
@@ -63,7 +65,7 @@ data class BiologicalMaterialPost(
 
 interface MaterialApiService {
     @GET("/api/biological-materials")
-    suspend fun getAllMaterials(): List<BiologicalMaterial>
+    suspend fun getAllMaterials(@Query("cursor") cursor: Long? = null): retrofit2.Response<List<BiologicalMaterial>>
 
     @DELETE("/api/biological-materials/admin/{userId}/{id}")
     suspend fun deleteMaterial(
@@ -85,7 +87,7 @@ interface MaterialApiService {
     ): BiologicalMaterial
 
     @GET("/api/donors")
-    suspend fun getDonors(): List<DonorM>
+    suspend fun getDonors(@Query("limit") limit: Int? = null): retrofit2.Response<List<DonorM>>
 }
 
 @Composable
@@ -494,6 +496,7 @@ fun BiologicalMaterialsScreen(navController: NavController) {
     val coroutineScope = rememberCoroutineScope()
 
     var materials by remember { mutableStateOf<List<BiologicalMaterial>>(emptyList()) }
+    var nextCursor by remember { mutableStateOf<Long?>(null) }
     var searchQuery by remember { mutableStateOf("") }
     var selectedBloodType by remember { mutableStateOf<String?>(null) }
     var selectedStatus by remember { mutableStateOf<String?>(null) }
@@ -504,8 +507,10 @@ fun BiologicalMaterialsScreen(navController: NavController) {
 
     LaunchedEffect(true) {
         try {
-            materials = retrofit.getAllMaterials()
-            donors = retrofit.getDonors()
+            val page = fetchPage { retrofit.getAllMaterials() }
+            materials = page.items
+            nextCursor = page.nextCursor
+            donors = fetchPage { retrofit.getDonors(LOOKUP_LIMIT) }.items
         } catch (e: Exception) {
             errorMessage = context.getString(R.string.error)
         }
@@ -568,6 +573,21 @@ fun BiologicalMaterialsScreen(navController: NavController) {
                     onEdit = { editingMaterial = material },
                     onDelete = { materialToDelete = material })
             }
+            nextCursor?.let { cursor ->
+                item {
+                    LaunchedEffect(cursor) {
+                        try {
+                            val page = fetchPage { retrofit.getAllMaterials(cursor) }
+                            materials = materials + page.items
+                            nextCursor = page.nextCursor
+                        } catch (e: Exception) {
+                            nextCursor = null
+                            errorMessage = context.getString(R.string.error)
+                        }
+                    }
+                    CircularProgressIndicator(Modifier.padding(8.dp))
+                }
+            }
         }
     }
     var userID = LocalStorage.getUserId(context)
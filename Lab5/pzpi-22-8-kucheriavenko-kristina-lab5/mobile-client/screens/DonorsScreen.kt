@@ -14,6 +14,7 @@ import androidx.compose.ui.unit.dp
 import androidx.navigation.NavController
 import com.example.myapplication.R
 import com.example.myapplication.utils.LocalStorage
+import com.example.myapplication.utils.fetchPage
 import com.google.gson.Gson
 import kotlinx.coroutines.launch
 import retrofit2.HttpException
@@ -46,7 +47,7 @@ data class DonorPost(
 
 interface DonorApiService {
     @GET("/api/donors")
-    suspend fun getAllDonors(): List<Donor>
+    suspend fun getAllDonors(@Query("cursor") cursor: Long? = null): Response<List<Donor>>
 
     @GET("/api/donors/{DonorID}")
     suspend fun getDonor(@Path("DonorID") donorID: Long): Donor
@@ -323,6 +324,7 @@ fun DonorsScreen(navController: NavController) {
     val scope = rememberCoroutineScope()
 
     var donorsList by remember { mutableStateOf(emptyList<Donor>()) }
+    var nextCursor by remember { mutableStateOf<Long?>(null) }
     var searchQuery by remember { mutableStateOf("") }
     var selectedBlood by remember { mutableStateOf<String?>(null) }
     var errorMsg by remember { mutableStateOf<String?>(null) }
@@ -332,7 +334,9 @@ fun DonorsScreen(navController: NavController) {
 
     LaunchedEffect(Unit) {
         try {
-            donorsList = retrofit.getAllDonors()
+            val page = fetchPage { retrofit.getAllDonors() }
+            donorsList = page.items
+            nextCursor = page.nextCursor
         } catch (e: Exception) {
             errorMsg = context.getString(R.string.error_load_donors)
         }
@@ -387,9 +391,26 @@ fun DonorsScreen(navController: NavController) {
         }
         Spacer(Modifier.height(16.dp))
         errorMsg?.let { Text(it, color = MaterialTheme.colors.error) }
-        LazyColumn { items(filtered) { donor ->
-            DonorCard(donor, onEdit = { editing = donor }, onDelete = { toDelete = donor })
-        }}
+        LazyColumn {
+            items(filtered) { donor ->
+                DonorCard(donor, onEdit = { editing = donor }, onDelete = { toDelete = donor })
+            }
+            nextCursor?.let { cursor ->
+                item {
+                    LaunchedEffect(cursor) {
+                        try {
+                            val page = fetchPage { retrofit.getAllDonors(cursor) }
+                            donorsList = donorsList + page.items
+                            nextCursor = page.nextCursor
+                        } catch (e: Exception) {
+                            nextCursor = null
+                            errorMsg = context.getString(R.string.error_load_donors)
+                        }
+                    }
+                    CircularProgressIndicator(Modifier.padding(8.dp))
+                }
+            }
+        }
     }
 
     val userID = LocalStorage.getUserId(context) ?: 1L
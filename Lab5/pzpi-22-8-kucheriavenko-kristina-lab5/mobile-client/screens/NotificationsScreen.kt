@@ -13,6 +13,9 @@ import androidx.compose.ui.res.stringResource
 import androidx.compose.ui.unit.dp
 import androidx.navigation.NavController
 import com.example.myapplication.R
+import com.example.myapplication.utils.LOOKUP_LIMIT
+import com.example.myapplication.utils.fetchPage
+import retrofit2.Response
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
 import retrofit2.http.*
@@ -33,10 +36,10 @@ data class Notification(
 
 interface NotificationApiService {
     @GET("/api/notifications")
-    suspend fun getAllNotifications(): List<Notification>
+    suspend fun getAllNotifications(@Query("cursor") cursor: Long? = null): Response<List<Notification>>
 
     @GET("/api/biological-materials")
-    suspend fun getMaterials(): List<BiologicalMaterial>
+    suspend fun getMaterials(@Query("limit") limit: Int? = null): Response<List<BiologicalMaterial>>
 }
 
 @Composable
@@ -98,6 +101,7 @@ fun NotificationsScreen(navController: NavController) {
     val scope = rememberCoroutineScope()
 
     var notifications by remember { mutableStateOf<List<Notification>>(emptyList()) }
+    var nextCursor by remember { mutableStateOf<Long?>(null) }
     var materials by remember { mutableStateOf<List<BiologicalMaterial>>(emptyList()) }
     var errorMsg by remember { mutableStateOf<String?>(null) }
 
@@ -107,8 +111,10 @@ fun NotificationsScreen(navController: NavController) {
 
     LaunchedEffect(Unit) {
         try {
-            notifications = retrofit.getAllNotifications()
-            materials = retrofit.getMaterials()
+            val page = fetchPage { retrofit.getAllNotifications() }
+            notifications = page.items
+            nextCursor = page.nextCursor
+            materials = fetchPage { retrofit.getMaterials(LOOKUP_LIMIT) }.items
         } catch (e: Exception) {
             errorMsg = context.getString(R.string.error_load)
             Log.e("API", context.getString(R.string.error_load), e)
@@ -199,6 +205,21 @@ fun NotificationsScreen(navController: NavController) {
             items(filteredSorted) { notif ->
                 NotificationCard(notification = notif, materials = materials)
             }
+            nextCursor?.let { cursor ->
+                item {
+                    LaunchedEffect(cursor) {
+                        try {
+                            val page = fetchPage { retrofit.getAllNotifications(cursor) }
+                            notifications = notifications + page.items
+                            nextCursor = page.nextCursor
+                        } catch (e: Exception) {
+                            nextCursor = null
+                            errorMsg = context.getString(R.string.error_load)
+                        }
+                    }
+                    CircularProgressIndicator(Modifier.padding(8.dp))
+                }
+            }
         }
     }
 }
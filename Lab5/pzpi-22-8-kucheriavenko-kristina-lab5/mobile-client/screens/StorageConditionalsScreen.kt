@@ -13,11 +13,15 @@ import androidx.compose.ui.platform.LocalContext
 import androidx.compose.ui.unit.dp
 import androidx.navigation.NavController
 import com.example.myapplication.R
+import com.example.myapplication.utils.LOOKUP_LIMIT
+import com.example.myapplication.utils.fetchPage
 import com.google.gson.annotations.SerializedName
 import kotlinx.coroutines.launch
+import retrofit2.Response
 import retrofit2.Retrofit
 import retrofit2.converter.gson.GsonConverterFactory
 import retrofit2.http.GET
+import retrofit2.http.Query
 import java.text.SimpleDateFormat
 import java.util.*
 
@@ -58,10 +62,10 @@ data class StorageCondition(
 
 interface StorageConditionApiService {
     @GET("/api/storage-conditions")
-    suspend fun getAllConditions(): List<StorageCondition>
+    suspend fun getAllConditions(@Query("cursor") cursor: Long? = null): Response<List<StorageCondition>>
 
     @GET("/api/biological-materials")
-    suspend fun getMaterials(): List<BiologicalMaterial>
+    suspend fun getMaterials(@Query("limit") limit: Int? = null): Response<List<BiologicalMaterial>>
 }
 
 @SuppressLint("StringFormatMatches")
@@ -115,6 +119,7 @@ fun StorageConditionalsScreen(navController: NavController) {
     val scope = rememberCoroutineScope()
     val context = LocalContext.current
     var conditions by remember { mutableStateOf<List<StorageCondition>>(emptyList()) }
+    var nextCursor by remember { mutableStateOf<Long?>(null) }
     var materials by remember { mutableStateOf<List<BiologicalMaterial>>(emptyList()) }
     var errorMsg by remember { mutableStateOf<String?>(null) }
 
@@ -127,8 +132,10 @@ fun StorageConditionalsScreen(navController: NavController) {
 
     LaunchedEffect(Unit) {
         try {
-            conditions = retrofit.getAllConditions()
-            materials = retrofit.getMaterials()
+            val page = fetchPage { retrofit.getAllConditions() }
+            conditions = page.items
+            nextCursor = page.nextCursor
+            materials = fetchPage { retrofit.getMaterials(LOOKUP_LIMIT) }.items
         } catch (e: Exception) {
             errorMsg = context.getString(R.string.loading_error)
             Log.e("API", "Load error", e)
@@ -230,6 +237,21 @@ fun StorageConditionalsScreen(navController: NavController) {
             items(filteredSorted) { cond ->
                 StorageConditionCard(cond, materials)
             }
+            nextCursor?.let { cursor ->
+                item {
+                    LaunchedEffect(cursor) {
+                        try {
+                            val page = fetchPage { retrofit.getAllConditions(cursor) }
+                            conditions = conditions + page.items
+                            nextCursor = page.nextCursor
+                        } catch (e: Exception) {
+                            nextCursor = null
+                            errorMsg = context.getString(R.string.loading_error)
+                        }
+                    }
+                    CircularProgressIndicator(Modifier.padding(8.dp))
+                }
+            }
         }
     }
 }
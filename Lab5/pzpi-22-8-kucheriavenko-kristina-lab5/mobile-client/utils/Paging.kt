@@ -0,0 +1,18 @@
+package com.example.myapplication.utils
+
+import retrofit2.HttpException
+import retrofit2.Response
+
+private const val NEXT_CURSOR_HEADER = "X-Next-Cursor"
+
+const val LOOKUP_LIMIT = 500
+
+class Page<T>(val items: List<T>, val nextCursor: Long?)
+
+suspend fun <T> fetchPage(page: suspend () -> Response<List<T>>): Page<T> {
+    val response = page()
+    if (!response.isSuccessful) {
+        throw HttpException(response)
+    }
+    return Page(response.body().orEmpty(), response.headers()[NEXT_CURSOR_HEADER]?.toLongOrNull())
+}
@@ -0,0 +1,138 @@
+package com.BiologicalMaterialsSystem.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue with a single background drainer that hands items to the consumer
+ * in batches: a batch is flushed once it reaches batchSize or once flushIntervalMillis
+ * have passed since its first item was taken. The optional idle task runs on the drainer
+ * thread before every poll, i.e. after each batch and whenever the queue has been empty
+ * for flushIntervalMillis.
+ */
+public class BatchingQueue<T> {
+
+    private final String name;
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Consumer<List<T>> consumer;
+    private final Runnable idleTask;
+    private final Thread worker;
+
+    private volatile boolean running;
+
+    public BatchingQueue(String name, int capacity, int batchSize, long flushIntervalMillis, Consumer<List<T>> consumer) {
+        this(name, capacity, batchSize, flushIntervalMillis, consumer, null);
+    }
+
+    public BatchingQueue(String name, int capacity, int batchSize, long flushIntervalMillis,
+                         Consumer<List<T>> consumer, Runnable idleTask) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.consumer = consumer;
+        this.idleTask = idleTask;
+        this.worker = new Thread(this::drainLoop, name);
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    public void put(T item) throws InterruptedException {
+        queue.put(item);
+    }
+
+    public boolean offer(T item) {
+        return queue.offer(item);
+    }
+
+    public T removeOldest() {
+        return queue.poll();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int capacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    // Waits until the drainer has written everything left in the queue. The drainer is not
+    // interrupted, so a batch that is being written is never cut off.
+    public void stop() {
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (idleTask != null) {
+                try {
+                    idleTask.run();
+                } catch (Exception e) {
+                    System.err.println("Помилка у фоновому завданні " + name + ": " + e.getMessage());
+                }
+            }
+            try {
+                T first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                if (running) {
+                    continue;
+                }
+            }
+            flush(batch);
+        }
+
+        queue.drainTo(batch);
+        while (!batch.isEmpty()) {
+            List<T> chunk = new ArrayList<>(batch.subList(0, Math.min(batchSize, batch.size())));
+            batch.subList(0, chunk.size()).clear();
+            flush(chunk);
+        }
+    }
+
+    private void flush(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            consumer.accept(batch);
+        } catch (Exception e) {
+            System.err.println("Помилка при записі пакета " + name + " (" + batch.size() + " записів): " + e.getMessage());
+        } finally {
+            batch.clear();
+        }
+    }
+}
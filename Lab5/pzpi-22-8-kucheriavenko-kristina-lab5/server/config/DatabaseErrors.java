@@ -0,0 +1,37 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+
+// Tells failures worth retrying (database unreachable, broken connection, statement timeout) from
+// failures caused by the data itself, such as constraint violations or an unknown material.
+public final class DatabaseErrors {
+
+    private DatabaseErrors() {
+    }
+
+    public static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            // 08xxx - connection exception, 57014 - query canceled (statement timeout).
+            if (cause instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("08") || sql.getSQLState().equals("57014"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,29 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "storage-conditions.deadband")
+public class DeadbandProperties {
+    private boolean enabled = false;
+    private double temperatureTolerance = 0.2;
+    private double humidityTolerance = 1.0;
+    private double oxygenTolerance = 0.5;
+    private long heartbeatMillis = 300_000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public double getTemperatureTolerance() { return temperatureTolerance; }
+    public void setTemperatureTolerance(double temperatureTolerance) { this.temperatureTolerance = temperatureTolerance; }
+
+    public double getHumidityTolerance() { return humidityTolerance; }
+    public void setHumidityTolerance(double humidityTolerance) { this.humidityTolerance = humidityTolerance; }
+
+    public double getOxygenTolerance() { return oxygenTolerance; }
+    public void setOxygenTolerance(double oxygenTolerance) { this.oxygenTolerance = oxygenTolerance; }
+
+    public long getHeartbeatMillis() { return heartbeatMillis; }
+    public void setHeartbeatMillis(long heartbeatMillis) { this.heartbeatMillis = heartbeatMillis; }
+}
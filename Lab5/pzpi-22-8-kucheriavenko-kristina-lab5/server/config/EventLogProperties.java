@@ -0,0 +1,33 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "event-log.async")
+public class EventLogProperties {
+    private boolean enabled = true;
+    private int bufferCapacity = 8192;
+    private int batchSize = 200;
+    private long flushIntervalMillis = 500;
+    private int retryAttempts = 60;
+    private long retryDelayMillis = 1000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getBufferCapacity() { return bufferCapacity; }
+    public void setBufferCapacity(int bufferCapacity) { this.bufferCapacity = bufferCapacity; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getFlushIntervalMillis() { return flushIntervalMillis; }
+    public void setFlushIntervalMillis(long flushIntervalMillis) { this.flushIntervalMillis = flushIntervalMillis; }
+
+    public int getRetryAttempts() { return retryAttempts; }
+    public void setRetryAttempts(int retryAttempts) { this.retryAttempts = retryAttempts; }
+
+    public long getRetryDelayMillis() { return retryDelayMillis; }
+    public void setRetryDelayMillis(long retryDelayMillis) { this.retryDelayMillis = retryDelayMillis; }
+}
@@ -0,0 +1,17 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notifications.coalescing")
+public class NotificationProperties {
+    private double hysteresisMargin = 0.05;
+    private long escalationDwellMillis = 1_800_000;
+
+    public double getHysteresisMargin() { return hysteresisMargin; }
+    public void setHysteresisMargin(double hysteresisMargin) { this.hysteresisMargin = hysteresisMargin; }
+
+    public long getEscalationDwellMillis() { return escalationDwellMillis; }
+    public void setEscalationDwellMillis(long escalationDwellMillis) { this.escalationDwellMillis = escalationDwellMillis; }
+}
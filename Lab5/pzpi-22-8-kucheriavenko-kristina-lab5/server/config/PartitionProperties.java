@@ -0,0 +1,29 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "partitioning")
+public class PartitionProperties {
+    private boolean enabled = false;
+    private int storageConditionRetentionMonths = 24;
+    private int eventLogRetentionMonths = 12;
+    private int premakeMonths = 3;
+    private boolean dropDetached = true;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getStorageConditionRetentionMonths() { return storageConditionRetentionMonths; }
+    public void setStorageConditionRetentionMonths(int storageConditionRetentionMonths) { this.storageConditionRetentionMonths = storageConditionRetentionMonths; }
+
+    public int getEventLogRetentionMonths() { return eventLogRetentionMonths; }
+    public void setEventLogRetentionMonths(int eventLogRetentionMonths) { this.eventLogRetentionMonths = eventLogRetentionMonths; }
+
+    public int getPremakeMonths() { return premakeMonths; }
+    public void setPremakeMonths(int premakeMonths) { this.premakeMonths = premakeMonths; }
+
+    public boolean isDropDetached() { return dropDetached; }
+    public void setDropDetached(boolean dropDetached) { this.dropDetached = dropDetached; }
+}
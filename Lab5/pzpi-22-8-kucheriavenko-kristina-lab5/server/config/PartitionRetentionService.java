@@ -0,0 +1,140 @@
+package com.BiologicalMaterialsSystem.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Maintains the monthly partitions created by server/db/partition-tables.sql: creates partitions for
+// the coming months and detaches (and by default drops) partitions older than the retention period.
+@Service
+@RequiredArgsConstructor
+public class PartitionRetentionService {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final PartitionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Scheduled(cron = "${partitioning.cron:0 30 3 * * *}")
+    public void maintain() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        maintain("storage_condition", "measurement_time", properties.getStorageConditionRetentionMonths(), current);
+        maintain("event_logs", "action_time", properties.getEventLogRetentionMonths(), current);
+    }
+
+    private void maintain(String table, String timeColumn, int retentionMonths, YearMonth current) {
+        try {
+            maintainPartitions(table, timeColumn, retentionMonths, current);
+        } catch (Exception e) {
+            System.err.println("Помилка обслуговування секцій таблиці " + table + ": " + e.getMessage());
+        }
+    }
+
+    private void maintainPartitions(String table, String timeColumn, int retentionMonths, YearMonth current) {
+        Integer partitioned = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)", Integer.class, table);
+        if (partitioned == null || partitioned == 0) {
+            System.err.println("Таблиця " + table + " не розділена на секції, обслуговування пропущено");
+            return;
+        }
+
+        for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                createPartition(table, timeColumn, month);
+            } catch (Exception e) {
+                System.err.println("Не вдалося створити секцію " + partitionName(table, month) + ": " + e.getMessage());
+            }
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = to_regclass(?)", String.class, table);
+        for (String partition : partitions) {
+            if (!partition.matches(table + "_p\\d{6}")) {
+                continue;
+            }
+            YearMonth month = YearMonth.parse(partition.substring(partition.length() - 6), SUFFIX);
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute(String.format("ALTER TABLE \"%s\" DETACH PARTITION \"%s\"", table, partition));
+                if (properties.isDropDetached()) {
+                    jdbcTemplate.execute(String.format("DROP TABLE \"%s\"", partition));
+                    System.out.println("Секцію " + partition + " видалено");
+                } else {
+                    System.out.println("Секцію " + partition + " від'єднано");
+                }
+            } catch (Exception e) {
+                System.err.println("Не вдалося видалити секцію " + partition + ": " + e.getMessage());
+            }
+        }
+
+        // Rows outside the monthly partitions, e.g. readings with a very old measurement time.
+        try {
+            int deleted = jdbcTemplate.update(String.format("DELETE FROM \"%s_default\" WHERE %s < ?", table, timeColumn),
+                    Timestamp.valueOf(oldestKept.atDay(1).atStartOfDay()));
+            if (deleted > 0) {
+                System.out.println("Видалено " + deleted + " застарілих записів з " + table + "_default");
+            }
+        } catch (Exception e) {
+            System.err.println("Не вдалося очистити секцію " + table + "_default: " + e.getMessage());
+        }
+    }
+
+    // PostgreSQL refuses to create a partition while the DEFAULT partition holds rows of its range, e.g. after
+    // the server was stopped for longer than premake-months or after a backfill. Such rows are moved into the
+    // new partition in one transaction: the DEFAULT partition is detached, the partition is created and filled
+    // from it, and the DEFAULT partition is attached again.
+    private void createPartition(String table, String timeColumn, YearMonth month) {
+        String partition = partitionName(table, month);
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+            return;
+        }
+        String defaultPartition = table + "_default";
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        String create = String.format("CREATE TABLE \"%s\" PARTITION OF \"%s\" FOR VALUES FROM ('%s') TO ('%s')",
+                partition, table, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        boolean hasDefault = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, defaultPartition);
+        if (!hasDefault || !jdbcTemplate.queryForObject(String.format(
+                "SELECT EXISTS (SELECT 1 FROM \"%s\" WHERE %s >= ? AND %s < ?)", defaultPartition, timeColumn, timeColumn),
+                Boolean.class, from, to)) {
+            jdbcTemplate.execute(create);
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.execute(String.format("ALTER TABLE \"%s\" DETACH PARTITION \"%s\"", table, defaultPartition));
+            jdbcTemplate.execute(create);
+            int moved = jdbcTemplate.update(String.format(
+                    "WITH moved AS (DELETE FROM \"%s\" WHERE %s >= ? AND %s < ? RETURNING *) " +
+                            "INSERT INTO \"%s\" OVERRIDING SYSTEM VALUE SELECT * FROM moved",
+                    defaultPartition, timeColumn, timeColumn, partition), from, to);
+            jdbcTemplate.execute(String.format("ALTER TABLE \"%s\" ATTACH PARTITION \"%s\" DEFAULT", table, defaultPartition));
+            System.out.println("Секцію " + partition + " створено, перенесено " + moved + " записів з " + defaultPartition);
+        });
+    }
+
+    private static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(SUFFIX);
+    }
+}
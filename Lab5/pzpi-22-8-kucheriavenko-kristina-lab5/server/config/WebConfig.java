@@ -0,0 +1,20 @@
+package com.BiologicalMaterialsSystem.config;
+
+import com.BiologicalMaterialsSystem.service.CursorPage;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    // Browsers hide response headers from cross-origin callers unless they are exposed, and the web client
+    // needs the cursor header of every paged listing.
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/api/**")
+                .allowedOrigins("*")
+                .allowedMethods("GET", "POST", "PUT", "DELETE")
+                .exposedHeaders(CursorPage.NEXT_CURSOR_HEADER);
+    }
+}
@@ -1,6 +1,7 @@
 package com.BiologicalMaterialsSystem.controllers;
 
 import java.util.List;
+import com.BiologicalMaterialsSystem.enums.DonationStatus;
 import com.BiologicalMaterialsSystem.model.*;
 import com.BiologicalMaterialsSystem.service.*;
 import jakarta.validation.Valid;
@@ -48,9 +49,12 @@ public class BiologicalMaterialController {
     }
 
     @GetMapping
-    public ResponseEntity<List<BiologicalMaterial>> getAllBiologicalMaterials() {
-        List<BiologicalMaterial> materials = biologicalMaterialService.getAllBiologicalMaterials();
-        return ResponseEntity.ok(materials);
+    public ResponseEntity<List<BiologicalMaterial>> getAllBiologicalMaterials(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+            @RequestParam(value = "status", required = false) DonationStatus status,
+            @RequestParam(value = "donorId", required = false) Long donorId) {
+        return CursorPageResponse.ok(biologicalMaterialService.getAllBiologicalMaterials(cursor, limit, status, donorId));
     }
 
     @PutMapping("/{userId}/{materialID}")
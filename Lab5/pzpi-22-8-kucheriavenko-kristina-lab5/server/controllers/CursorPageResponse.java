@@ -0,0 +1,20 @@
+package com.BiologicalMaterialsSystem.controllers;
+
+import com.BiologicalMaterialsSystem.service.CursorPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+final class CursorPageResponse {
+
+    private CursorPageResponse() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(page.items());
+    }
+}
@@ -2,8 +2,10 @@ package com.BiologicalMaterialsSystem.controllers;
 
 import java.util.List;
 
+import com.BiologicalMaterialsSystem.enums.RhFactorOfBlood;
 import com.BiologicalMaterialsSystem.model.Donor;
 import com.BiologicalMaterialsSystem.model.User;
+import com.BiologicalMaterialsSystem.service.CursorPage;
 import com.BiologicalMaterialsSystem.service.DonorService;
 import com.BiologicalMaterialsSystem.service.UserService;
 import jakarta.validation.Valid;
@@ -54,8 +56,11 @@ public class DonorController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Donor>> getAllDonors() {
-        return ResponseEntity.ok(donorService.getAllDonors());
+    public ResponseEntity<List<Donor>> getAllDonors(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+            @RequestParam(value = "bloodType", required = false) RhFactorOfBlood bloodType) {
+        return CursorPageResponse.ok(donorService.getAllDonors(cursor, limit, bloodType));
     }
 
     @PutMapping("/admin/{userId}/{DonorID}")
@@ -4,12 +4,16 @@ import java.util.Date;
 import java.util.List;
 
 import com.BiologicalMaterialsSystem.enums.Access;
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import com.BiologicalMaterialsSystem.model.EventLog;
 import com.BiologicalMaterialsSystem.model.User;
+import com.BiologicalMaterialsSystem.service.CursorPage;
 import com.BiologicalMaterialsSystem.service.EventLogService;
 import com.BiologicalMaterialsSystem.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -27,7 +31,7 @@ public class EventLogController {
     public ResponseEntity<EventLog> createEventLog(
             @PathVariable("userId") Long userId,
             @Valid @RequestBody EventLog eventLog, BindingResult result) {
-        if (result.hasErrors()) {
+        if (result.hasErrors() || eventLog.getActionDetails() == null) {
             return ResponseEntity.badRequest().body(null);
         }
         User adminUser = userService.getUserById(userId);
@@ -35,8 +39,7 @@ public class EventLogController {
         if (adminUser.getAccessRights() != Access.FULL) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
-        eventLogService.logAction(adminUser, value);
-        return ResponseEntity.ok(eventLog);
+        return ResponseEntity.ok(eventLogService.logActionSync(adminUser, value));
     }
 
     @GetMapping("/admin/{userId}/{id}")
@@ -52,12 +55,19 @@ public class EventLogController {
 
     @GetMapping("/admin/{userId}")
     public ResponseEntity<List<EventLog>> getAllEventLogs(
-            @PathVariable("userId") Long userId) {
+            @PathVariable("userId") Long userId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(value = "actionType", required = false) ActionType actionType,
+            @RequestParam(value = "entityType", required = false) EntityType entityType,
+            @RequestParam(value = "entityId", required = false) Long entityId) {
         User adminUser = userService.getUserById(userId);
         if (adminUser.getAccessRights() != Access.FULL) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
         }
-        return ResponseEntity.ok(eventLogService.getAllEventLogs());
+        return CursorPageResponse.ok(eventLogService.getAllEventLogs(cursor, limit, from, to, actionType, entityType, entityId));
     }
 
     @PutMapping("/admin/{userId}/{id}")
@@ -1,15 +1,19 @@
 package com.BiologicalMaterialsSystem.controllers;
 
+import java.util.Date;
 import java.util.List;
 
 import com.BiologicalMaterialsSystem.model.*;
 import com.BiologicalMaterialsSystem.service.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
@@ -18,6 +22,7 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final UserService userService;
+    private final LiveFeedService liveFeedService;
 
     @PostMapping("/admin/{userId}/add")
     public ResponseEntity<Notification> createNotification(
@@ -41,14 +46,24 @@ public class NotificationController {
         return ResponseEntity.ok(notification);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestParam(value = "materialId", required = false) Long materialId) {
+        return liveFeedService.subscribeToNotifications(materialId);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Notification> getNotificationById(@PathVariable Long id) {
         return ResponseEntity.ok(notificationService.getNotificationById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<Notification>> getAllNotifications() {
-        return ResponseEntity.ok(notificationService.getAllNotifications());
+    public ResponseEntity<List<Notification>> getAllNotifications(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(value = "materialId", required = false) Long materialId) {
+        return CursorPageResponse.ok(notificationService.getAllNotifications(cursor, limit, from, to, materialId));
     }
 
     @PutMapping("/admin/{userId}/{id}")
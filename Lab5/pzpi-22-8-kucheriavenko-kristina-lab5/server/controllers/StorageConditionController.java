@@ -1,15 +1,27 @@
 package com.BiologicalMaterialsSystem.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
+import com.BiologicalMaterialsSystem.config.StorageConditionIngestPipeline;
+import com.BiologicalMaterialsSystem.config.UdpIngestListener;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
 import com.BiologicalMaterialsSystem.model.*;
 import com.BiologicalMaterialsSystem.service.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RestController
@@ -18,6 +30,11 @@ public class StorageConditionController {
 
     private final StorageConditionService storageConditionService;
     private final UserService userService;
+    private final LiveFeedService liveFeedService;
+    private final StorageConditionIngestPipeline ingestPipeline;
+    private final UdpIngestListener udpIngestListener;
+    private final StorageConditionImportService storageConditionImportService;
+    private final DeadbandFilter deadbandFilter;
 
     @PostMapping("/admin/{userId}/add")
     public ResponseEntity<StorageCondition> createCondition(
@@ -41,14 +58,96 @@ public class StorageConditionController {
         return ResponseEntity.ok(condition);
     }
 
+    @PostMapping(value = "/admin/{userId}/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportResult> importConditions(
+            @PathVariable("userId") Long userId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+
+        User user = userService.getUserById(userId);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
+        }
+        if (!userService.availabilityOfAction(userId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(null);
+        }
+
+        try {
+            return ResponseEntity.ok(storageConditionImportService.importConditions(
+                    user, body, contentType.startsWith("text/csv")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<StorageCondition> getConditionById(@PathVariable Long id) {
         return ResponseEntity.ok(storageConditionService.getConditionById(id));
     }
 
     @GetMapping
-    public ResponseEntity<List<StorageCondition>> getAllConditions() {
-        return ResponseEntity.ok(storageConditionService.getAllConditions());
+    public ResponseEntity<List<StorageCondition>> getAllConditions(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(value = "materialId", required = false) Long materialId,
+            @RequestParam(value = "zone", required = false) StorageZone zone) {
+        return CursorPageResponse.ok(storageConditionService.getAllConditions(cursor, limit, from, to, materialId, zone));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamConditions(@RequestParam(value = "materialId", required = false) Long materialId) {
+        return liveFeedService.subscribeToConditions(materialId);
+    }
+
+    @GetMapping("/material/{materialId}/range")
+    public ResponseEntity<StreamingResponseBody> getConditionsInRange(
+            @PathVariable("materialId") Long materialId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        if (!from.before(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> storageConditionService.streamConditions(materialId, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/material/{materialId}/latest")
+    public ResponseEntity<List<StorageCondition>> getLatestConditions(
+            @PathVariable("materialId") Long materialId,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(storageConditionService.getLatestConditions(materialId, limit));
+    }
+
+    @GetMapping("/material/{materialId}/rollups")
+    public ResponseEntity<List<StorageConditionRollup>> getRollups(
+            @PathVariable("materialId") Long materialId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(value = "maxPoints", defaultValue = "500") int maxPoints) {
+        if (!from.before(to) || maxPoints < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(storageConditionService.getRollups(materialId, from, to, maxPoints));
+    }
+
+    @GetMapping("/material-cache")
+    public ResponseEntity<Map<String, Long>> getMaterialCacheStats() {
+        return ResponseEntity.ok(storageConditionService.getMaterialCacheStats());
+    }
+
+    @GetMapping("/ingest")
+    public ResponseEntity<Map<String, Long>> getIngestStats() {
+        Map<String, Long> stats = ingestPipeline.getStats();
+        stats.put("udpDatagrams", udpIngestListener.getDatagrams());
+        stats.put("udpRejected", udpIngestListener.getRejected());
+        stats.put("udpUnauthorized", udpIngestListener.getUnauthorized());
+        stats.put("udpOverflow", udpIngestListener.getOverflow());
+        stats.put("suppressed", deadbandFilter.getSuppressed());
+        return ResponseEntity.ok(stats);
     }
 
     @PutMapping("/admin/{userId}/{id}")
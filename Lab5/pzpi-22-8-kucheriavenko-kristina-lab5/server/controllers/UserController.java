@@ -5,6 +5,7 @@ import java.util.List;
 import com.BiologicalMaterialsSystem.enums.Access;
 import com.BiologicalMaterialsSystem.model.User;
 import jakarta.validation.Valid;
+import com.BiologicalMaterialsSystem.service.CursorPage;
 import com.BiologicalMaterialsSystem.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -50,8 +51,10 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<List<User>> getAllUsers(
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "limit", defaultValue = "" + CursorPage.DEFAULT_LIMIT) int limit) {
+        return CursorPageResponse.ok(userService.getAllUsers(cursor, limit));
     }
 
     @PutMapping("/admin/{adminUserId}/{userId}")
@@ -0,0 +1,5 @@
+-- Allows event log entries without action_details. Entries written by services store only the structured
+-- fields and render the text on read, while Hibernate keeps the NOT NULL constraint that the column was
+-- created with. Safe to run more than once; can be run while the server is running.
+
+ALTER TABLE event_logs ALTER COLUMN action_details DROP NOT NULL;
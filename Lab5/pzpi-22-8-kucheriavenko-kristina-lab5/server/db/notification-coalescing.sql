@@ -0,0 +1,17 @@
+-- Fills the coalescing columns of notifications created before occurrences, first_seen, last_seen and zone
+-- existed. Hibernate adds new columns as nullable, so older rows read NULL in these fields. The zone is
+-- taken from the details of zone notifications and lets the server restore the zone state on startup.
+-- Safe to run more than once; can be run while the server is running.
+
+BEGIN;
+
+UPDATE notifications SET occurrences = 1 WHERE occurrences IS NULL;
+UPDATE notifications SET first_seen = notification_time WHERE first_seen IS NULL;
+UPDATE notifications SET last_seen = first_seen WHERE last_seen IS NULL;
+UPDATE notifications SET zone = substring(details FROM 'the zone: (YELLOW|RED)$')
+WHERE zone IS NULL AND details ~ 'the zone: (YELLOW|RED)$';
+
+ALTER TABLE notifications ALTER COLUMN occurrences SET DEFAULT 1;
+ALTER TABLE notifications ALTER COLUMN occurrences SET NOT NULL;
+
+COMMIT;
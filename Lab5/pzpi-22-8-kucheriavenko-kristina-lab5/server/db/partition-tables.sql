@@ -0,0 +1,67 @@
+-- Converts storage_condition and event_logs into tables partitioned by month.
+-- Run once with the server stopped, after Hibernate has created the tables. Afterwards set
+-- spring.jpa.hibernate.ddl-auto=none: Hibernate does not create or update partitioned tables.
+-- New monthly partitions are created and expired ones removed by PartitionRetentionService. Rows that
+-- reach the DEFAULT partition before their month's partition exists are moved into it when it is created.
+
+BEGIN;
+
+CREATE OR REPLACE FUNCTION pg_temp.create_month_partitions(parent text, first_month date, last_month date)
+RETURNS void LANGUAGE plpgsql AS $$
+DECLARE
+    month date := date_trunc('month', first_month);
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(month, 'YYYYMM'), parent, month, (month + interval '1 month')::date);
+        month := month + interval '1 month';
+    END LOOP;
+END $$;
+
+-- storage_condition, partitioned by measurement_time
+
+ALTER TABLE storage_condition RENAME TO storage_condition_old;
+ALTER INDEX IF EXISTS idx_storage_condition_material_time RENAME TO idx_storage_condition_material_time_old;
+
+CREATE TABLE storage_condition (LIKE storage_condition_old INCLUDING DEFAULTS INCLUDING IDENTITY INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (measurement_time);
+ALTER TABLE storage_condition ADD PRIMARY KEY (record_id, measurement_time);
+ALTER TABLE storage_condition ADD FOREIGN KEY (material_id) REFERENCES biological_materials (material_id);
+CREATE INDEX idx_storage_condition_material_time ON storage_condition (material_id, measurement_time);
+CREATE INDEX idx_storage_condition_record ON storage_condition (record_id);
+
+SELECT pg_temp.create_month_partitions('storage_condition',
+        COALESCE((SELECT MIN(measurement_time) FROM storage_condition_old), now())::date,
+        (now() + interval '3 months')::date);
+CREATE TABLE storage_condition_default PARTITION OF storage_condition DEFAULT;
+
+INSERT INTO storage_condition OVERRIDING SYSTEM VALUE SELECT * FROM storage_condition_old;
+SELECT setval(pg_get_serial_sequence('storage_condition', 'record_id'),
+        (SELECT COALESCE(MAX(record_id), 0) + 1 FROM storage_condition), false);
+DROP TABLE storage_condition_old;
+
+-- event_logs, partitioned by action_time
+
+ALTER TABLE event_logs RENAME TO event_logs_old;
+ALTER INDEX IF EXISTS idx_event_logs_entity RENAME TO idx_event_logs_entity_old;
+ALTER INDEX IF EXISTS idx_event_logs_action RENAME TO idx_event_logs_action_old;
+
+CREATE TABLE event_logs (LIKE event_logs_old INCLUDING DEFAULTS INCLUDING IDENTITY INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (action_time);
+ALTER TABLE event_logs ADD PRIMARY KEY (event_log_id, action_time);
+ALTER TABLE event_logs ADD FOREIGN KEY (user_id) REFERENCES users (user_id);
+CREATE INDEX idx_event_logs_entity ON event_logs (entity_type, entity_id, event_log_id);
+CREATE INDEX idx_event_logs_action ON event_logs (action_type, event_log_id);
+CREATE INDEX idx_event_logs_id ON event_logs (event_log_id);
+
+SELECT pg_temp.create_month_partitions('event_logs',
+        COALESCE((SELECT MIN(action_time) FROM event_logs_old), now())::date,
+        (now() + interval '3 months')::date);
+CREATE TABLE event_logs_default PARTITION OF event_logs DEFAULT;
+
+INSERT INTO event_logs OVERRIDING SYSTEM VALUE SELECT * FROM event_logs_old;
+SELECT setval(pg_get_serial_sequence('event_logs', 'event_log_id'),
+        (SELECT COALESCE(MAX(event_log_id), 0) + 1 FROM event_logs), false);
+DROP TABLE event_logs_old;
+
+COMMIT;
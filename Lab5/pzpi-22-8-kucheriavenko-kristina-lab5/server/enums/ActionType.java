@@ -0,0 +1,19 @@
+package com.BiologicalMaterialsSystem.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ActionType {
+    CREATE("Added new"),
+    UPDATE("Updated"),
+    DELETE("Deleted"),
+    IMPORT("Imported"),
+    RECORD("Recorded by IOT"),
+    SUMMARY("Summarized IOT readings for");
+
+    private final String name;
+
+    ActionType(String name) {
+        this.name = name;
+    }
+}
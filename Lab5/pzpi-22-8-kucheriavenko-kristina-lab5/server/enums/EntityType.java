@@ -0,0 +1,17 @@
+package com.BiologicalMaterialsSystem.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum EntityType {
+    BIOLOGICAL_MATERIAL("biological material"),
+    DONOR("donor"),
+    NOTIFICATION("notification"),
+    STORAGE_CONDITION("storage condition");
+
+    private final String name;
+
+    EntityType(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,20 @@
+package com.BiologicalMaterialsSystem.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum RollupResolution {
+    MINUTE(60_000L),
+    HOUR(3_600_000L),
+    DAY(86_400_000L);
+
+    private final long millis;
+
+    RollupResolution(long millis) {
+        this.millis = millis;
+    }
+
+    public long bucketStart(long timeMillis) {
+        return Math.floorDiv(timeMillis, millis) * millis;
+    }
+}
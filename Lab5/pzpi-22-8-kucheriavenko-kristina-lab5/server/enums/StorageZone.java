@@ -14,4 +14,10 @@ public enum StorageZone {
         this.name = name;
     }
 
+    public static StorageZone fromScore(double score) {
+        if (score < 0.3) return RED;
+        if (score < 0.7) return YELLOW;
+        return GREEN;
+    }
+
 }
@@ -1,13 +1,25 @@
 package com.BiologicalMaterialsSystem.model;
 
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.util.Date;
+import java.util.Map;
+import java.util.StringJoiner;
 
 @Entity
-@Table(name = "eventLogs")
+@Table(
+        name = "eventLogs",
+        indexes = {
+                @Index(name = "idx_event_logs_entity", columnList = "entityType, entityId, eventLogID"),
+                @Index(name = "idx_event_logs_action", columnList = "actionType, eventLogID")
+        }
+)
 @Getter
 @Setter
 public class EventLog {
@@ -16,11 +28,22 @@ public class EventLog {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long eventLogID;
 
-    @NotNull(message = "Action cannot be null")
-    @Size(min = 2, max = 1000, message = "Action must be between 2 and 255 characters")
-    @Column(nullable = false)
+    // Set only for entries added through the API; entries of services are rendered from the fields below.
+    @Size(min = 2, max = 1000, message = "Action must be between 2 and 1000 characters")
     private String actionDetails;
 
+    @Enumerated(EnumType.STRING)
+    private ActionType actionType;
+
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    private Long entityId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private Map<String, Object> payload;
+
     @NotNull(message = "Action time cannot be null")
     @PastOrPresent(message = "Action time must be in the past or present")
     @Column(nullable = false)
@@ -29,4 +52,24 @@ public class EventLog {
     @ManyToOne
     @JoinColumn(name = "userID")
     private User creatorID;
+
+    public String getActionDetails() {
+        if (actionDetails != null || actionType == null) {
+            return actionDetails;
+        }
+        StringBuilder details = new StringBuilder(actionType.getName());
+        if (entityType != null) {
+            details.append(' ').append(entityType.getName());
+        }
+        if (entityId != null) {
+            details.append(" with ID: ").append(entityId);
+        }
+        if (payload != null && !payload.isEmpty()) {
+            StringJoiner values = new StringJoiner(", ", " | ", "");
+            payload.forEach((key, value) -> values.add(key + ": "
+                    + (value instanceof Double number ? String.format("%.2f", number) : value)));
+            details.append(values);
+        }
+        return details.toString();
+    }
 }
@@ -0,0 +1,76 @@
+package com.BiologicalMaterialsSystem.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Table(name = "material_statistics")
+@Getter
+@Setter
+public class MaterialStatistics {
+
+    @Id
+    private Long materialID;
+
+    @Column(nullable = false)
+    private long count;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "mean", column = @Column(name = "temperatureMean", nullable = false)),
+            @AttributeOverride(name = "m2", column = @Column(name = "temperatureM2", nullable = false))
+    })
+    private RunningStatistic temperature = new RunningStatistic();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "mean", column = @Column(name = "humidityMean", nullable = false)),
+            @AttributeOverride(name = "m2", column = @Column(name = "humidityM2", nullable = false))
+    })
+    private RunningStatistic humidity = new RunningStatistic();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "mean", column = @Column(name = "oxygenLevelMean", nullable = false)),
+            @AttributeOverride(name = "m2", column = @Column(name = "oxygenLevelM2", nullable = false))
+    })
+    private RunningStatistic oxygenLevel = new RunningStatistic();
+
+    public void add(double temperatureValue, double humidityValue, double oxygenLevelValue) {
+        count++;
+        temperature.add(temperatureValue, count);
+        humidity.add(humidityValue, count);
+        oxygenLevel.add(oxygenLevelValue, count);
+    }
+
+    public void remove(double temperatureValue, double humidityValue, double oxygenLevelValue) {
+        if (count == 0) {
+            return;
+        }
+        count--;
+        temperature.remove(temperatureValue, count);
+        humidity.remove(humidityValue, count);
+        oxygenLevel.remove(oxygenLevelValue, count);
+    }
+
+    public void merge(MaterialStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        temperature.merge(other.temperature, count, other.count);
+        humidity.merge(other.humidity, count, other.count);
+        oxygenLevel.merge(other.oxygenLevel, count, other.count);
+        count += other.count;
+    }
+
+    public void subtract(MaterialStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        temperature.subtract(other.temperature, count, other.count);
+        humidity.subtract(other.humidity, count, other.count);
+        oxygenLevel.subtract(other.oxygenLevel, count, other.count);
+        count = Math.max(0, count - other.count);
+    }
+}
@@ -1,5 +1,6 @@
 package com.BiologicalMaterialsSystem.model;
 
+import com.BiologicalMaterialsSystem.enums.StorageZone;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Getter;
@@ -31,6 +32,20 @@ public class Notification {
     @Column(nullable = false)
     private Date notificationTime;
 
+    @Min(value = 1, message = "Occurrences must be at least 1")
+    @Column(nullable = false, columnDefinition = "integer default 1")
+    private Integer occurrences = 1;
+
+    @PastOrPresent(message = "First seen time must be in the past or present")
+    private Date firstSeen;
+
+    @PastOrPresent(message = "Last seen time must be in the past or present")
+    private Date lastSeen;
+
+    // Zone that raised the notification; empty for notifications added through the API.
+    @Enumerated(EnumType.STRING)
+    private StorageZone zone;
+
     @ManyToOne
     @JoinColumn(name = "materialID")
     @NotNull(message = "Biological material cannot be null")
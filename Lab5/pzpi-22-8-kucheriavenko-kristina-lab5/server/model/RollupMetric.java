@@ -0,0 +1,29 @@
+package com.BiologicalMaterialsSystem.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+public class RollupMetric {
+
+    private double min;
+
+    private double max;
+
+    private double avg;
+
+    public void add(double value, long count) {
+        if (count == 1) {
+            min = value;
+            max = value;
+            avg = value;
+            return;
+        }
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        avg += (value - avg) / count;
+    }
+}
@@ -0,0 +1,58 @@
+package com.BiologicalMaterialsSystem.model;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.Setter;
+
+@Embeddable
+@Getter
+@Setter
+public class RunningStatistic {
+
+    private double mean;
+
+    private double m2;
+
+    public void add(double value, long count) {
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public void remove(double value, long count) {
+        if (count == 0) {
+            mean = 0;
+            m2 = 0;
+            return;
+        }
+        double previousMean = mean;
+        mean = (previousMean * (count + 1) - value) / count;
+        m2 = Math.max(0, m2 - (value - previousMean) * (value - mean));
+    }
+
+    // Chan's parallel combination with the statistic of another, disjoint set of values.
+    public void merge(RunningStatistic other, long count, long otherCount) {
+        long total = count + otherCount;
+        double delta = other.mean - mean;
+        mean += delta * otherCount / total;
+        m2 += other.m2 + delta * delta * count * otherCount / total;
+    }
+
+    // Inverse of merge: takes out the values of other, which must be a subset of these values.
+    public void subtract(RunningStatistic other, long count, long otherCount) {
+        long remaining = count - otherCount;
+        if (remaining <= 0) {
+            mean = 0;
+            m2 = 0;
+            return;
+        }
+        double remainingMean = (mean * count - other.mean * otherCount) / remaining;
+        double delta = other.mean - remainingMean;
+        m2 = Math.max(0, m2 - other.m2 - delta * delta * remaining * otherCount / count);
+        mean = remainingMean;
+    }
+
+    public double variance(long count) {
+        return count > 0 ? m2 / count : 0.0;
+    }
+}
@@ -9,7 +9,10 @@ import lombok.Setter;
 import java.util.Date;
 
 @Entity
-@Table(name = "storage_condition")
+@Table(
+        name = "storage_condition",
+        indexes = @Index(name = "idx_storage_condition_material_time", columnList = "materialID, measurementTime")
+)
 @Getter
 @Setter
 public class StorageCondition {
@@ -41,6 +44,10 @@ public class StorageCondition {
     @Column(nullable = false)
     private Date measurementTime;
 
+    @PastOrPresent(message = "Received time must be in the past or present")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Date receivedTime;
+
     @Enumerated(EnumType.STRING)
     @JsonProperty("storage_zone")
     @Column(nullable = false)
@@ -0,0 +1,86 @@
+package com.BiologicalMaterialsSystem.model;
+
+import com.BiologicalMaterialsSystem.enums.RollupResolution;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Date;
+
+@Entity
+@Table(
+        name = "storage_condition_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_storage_condition_rollup_bucket",
+                columnNames = {"materialID", "resolution", "bucketStart"})
+)
+@Getter
+@Setter
+public class StorageConditionRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long rollupID;
+
+    @Column(nullable = false)
+    private Long materialID;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RollupResolution resolution;
+
+    @Column(nullable = false)
+    private Date bucketStart;
+
+    @Column(nullable = false)
+    private long count;
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "temperatureMin", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "temperatureMax", nullable = false)),
+            @AttributeOverride(name = "avg", column = @Column(name = "temperatureAvg", nullable = false))
+    })
+    private RollupMetric temperature = new RollupMetric();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "humidityMin", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "humidityMax", nullable = false)),
+            @AttributeOverride(name = "avg", column = @Column(name = "humidityAvg", nullable = false))
+    })
+    private RollupMetric humidity = new RollupMetric();
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "min", column = @Column(name = "oxygenLevelMin", nullable = false)),
+            @AttributeOverride(name = "max", column = @Column(name = "oxygenLevelMax", nullable = false)),
+            @AttributeOverride(name = "avg", column = @Column(name = "oxygenLevelAvg", nullable = false))
+    })
+    private RollupMetric oxygenLevel = new RollupMetric();
+
+    @Column(nullable = false)
+    private long greenMillis;
+
+    @Column(nullable = false)
+    private long yellowMillis;
+
+    @Column(nullable = false)
+    private long redMillis;
+
+    public void add(double temperatureValue, double humidityValue, double oxygenLevelValue) {
+        count++;
+        temperature.add(temperatureValue, count);
+        humidity.add(humidityValue, count);
+        oxygenLevel.add(oxygenLevelValue, count);
+    }
+
+    public void addZoneTime(StorageZone zone, long millis) {
+        switch (zone) {
+            case GREEN -> greenMillis += millis;
+            case YELLOW -> yellowMillis += millis;
+            case RED -> redMillis += millis;
+        }
+    }
+}
@@ -1,9 +1,26 @@
 package com.BiologicalMaterialsSystem.repository;
 
+import com.BiologicalMaterialsSystem.enums.DonationStatus;
 import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BiologicalMaterialRepository  extends JpaRepository<BiologicalMaterial, Long>{
+
+    @Query("SELECT m FROM BiologicalMaterial m " +
+            "WHERE m.materialID < :cursor " +
+            "AND (:status IS NULL OR m.status = :status) " +
+            "AND (:donorId IS NULL OR m.donorID.donorID = :donorId) " +
+            "ORDER BY m.materialID DESC")
+    List<BiologicalMaterial> findPage(
+            @Param("cursor") Long cursor,
+            @Param("status") DonationStatus status,
+            @Param("donorId") Long donorId,
+            Pageable pageable);
 }
@@ -1,9 +1,24 @@
 package com.BiologicalMaterialsSystem.repository;
 
+import com.BiologicalMaterialsSystem.enums.RhFactorOfBlood;
 import com.BiologicalMaterialsSystem.model.Donor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface DonorRepository  extends JpaRepository<Donor, Long> {
+
+    @Query("SELECT d FROM Donor d " +
+            "WHERE d.donorID < :cursor " +
+            "AND (:bloodType IS NULL OR d.bloodType = :bloodType) " +
+            "ORDER BY d.donorID DESC")
+    List<Donor> findPage(
+            @Param("cursor") Long cursor,
+            @Param("bloodType") RhFactorOfBlood bloodType,
+            Pageable pageable);
 }
@@ -1,9 +1,33 @@
 package com.BiologicalMaterialsSystem.repository;
 
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import com.BiologicalMaterialsSystem.model.EventLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+
 @Repository
 public interface EventLogRepository  extends JpaRepository<EventLog, Long> {
+
+    @Query("SELECT e FROM EventLog e " +
+            "WHERE e.eventLogID < :cursor " +
+            "AND e.actionTime >= :from AND e.actionTime < :to " +
+            "AND (:actionType IS NULL OR e.actionType = :actionType) " +
+            "AND (:entityType IS NULL OR e.entityType = :entityType) " +
+            "AND (:entityId IS NULL OR e.entityId = :entityId) " +
+            "ORDER BY e.eventLogID DESC")
+    List<EventLog> findPage(
+            @Param("cursor") Long cursor,
+            @Param("from") Date from,
+            @Param("to") Date to,
+            @Param("actionType") ActionType actionType,
+            @Param("entityType") EntityType entityType,
+            @Param("entityId") Long entityId,
+            Pageable pageable);
 }
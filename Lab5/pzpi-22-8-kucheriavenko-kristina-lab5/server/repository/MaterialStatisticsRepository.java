@@ -0,0 +1,32 @@
+package com.BiologicalMaterialsSystem.repository;
+
+import com.BiologicalMaterialsSystem.model.MaterialStatistics;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface MaterialStatisticsRepository extends JpaRepository<MaterialStatistics, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM MaterialStatistics s WHERE s.materialID = :materialId")
+    Optional<MaterialStatistics> findForUpdate(@Param("materialId") Long materialId);
+
+    // Creates the statistics of a material from its stored readings unless another node already has.
+    @Modifying
+    @Query(value = "INSERT INTO material_statistics (material_id, count, " +
+            "temperature_mean, temperature_m2, humidity_mean, humidity_m2, oxygen_level_mean, oxygen_level_m2) " +
+            "SELECT :materialId, COUNT(*), " +
+            "COALESCE(AVG(temperature), 0), COALESCE(VAR_POP(temperature), 0) * COUNT(*), " +
+            "COALESCE(AVG(humidity), 0), COALESCE(VAR_POP(humidity), 0) * COUNT(*), " +
+            "COALESCE(AVG(oxygen_level), 0), COALESCE(VAR_POP(oxygen_level), 0) * COUNT(*) " +
+            "FROM storage_condition WHERE material_id = :materialId " +
+            "ON CONFLICT (material_id) DO NOTHING", nativeQuery = true)
+    int seed(@Param("materialId") Long materialId);
+}
@@ -0,0 +1,25 @@
+package com.BiologicalMaterialsSystem.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Adds to the coalescing counters of open notifications as one JDBC batch instead of merging each entity.
+// Counters are incremented rather than overwritten, so several nodes can update the same notification.
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String UPDATE_OCCURRENCES =
+            "UPDATE notifications SET occurrences = occurrences + ?, last_seen = GREATEST(last_seen, ?) " +
+            "WHERE notification_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Each row holds the occurrences to add (Integer), lastSeen (Timestamp) and notificationID (Long).
+    public void addOccurrences(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(UPDATE_OCCURRENCES, rows);
+    }
+}
@@ -1,9 +1,32 @@
 package com.BiologicalMaterialsSystem.repository;
 
 import com.BiologicalMaterialsSystem.model.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.notificationID < :cursor " +
+            "AND n.notificationTime >= :from AND n.notificationTime < :to " +
+            "AND (:materialId IS NULL OR n.materialID.materialID = :materialId) " +
+            "ORDER BY n.notificationID DESC")
+    List<Notification> findPage(
+            @Param("cursor") Long cursor,
+            @Param("from") Date from,
+            @Param("to") Date to,
+            @Param("materialId") Long materialId,
+            Pageable pageable);
+
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.notificationID IN (SELECT MAX(m.notificationID) FROM Notification m " +
+            "WHERE m.zone IS NOT NULL GROUP BY m.materialID.materialID)")
+    List<Notification> findLatestZoneNotifications();
 }
@@ -0,0 +1,60 @@
+package com.BiologicalMaterialsSystem.repository;
+
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+// Inserts readings with multi-row INSERT ... VALUES statements through JDBC, bypassing the persistence
+// context. Generated record IDs are read back with RETURNING and set on the passed entities, which stay
+// detached. Runs on the connection of the current transaction.
+@Repository
+@RequiredArgsConstructor
+public class StorageConditionBatchRepository {
+
+    private static final int ROWS_PER_STATEMENT = 1000;
+    private static final String INSERT = "INSERT INTO storage_condition " +
+            "(material_id, measurement_time, received_time, temperature, humidity, oxygen_level, zone) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String FULL_STATEMENT = insertSql(ROWS_PER_STATEMENT);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<StorageCondition> conditions) {
+        for (int from = 0; from < conditions.size(); from += ROWS_PER_STATEMENT) {
+            List<StorageCondition> rows = conditions.subList(from, Math.min(conditions.size(), from + ROWS_PER_STATEMENT));
+            String sql = rows.size() == ROWS_PER_STATEMENT ? FULL_STATEMENT : insertSql(rows.size());
+
+            List<Long> ids = jdbcTemplate.query(sql, ps -> {
+                int index = 1;
+                for (StorageCondition condition : rows) {
+                    ps.setLong(index++, condition.getMaterialID().getMaterialID());
+                    ps.setTimestamp(index++, new Timestamp(condition.getMeasurementTime().getTime()));
+                    ps.setTimestamp(index++, new Timestamp(condition.getReceivedTime().getTime()));
+                    ps.setDouble(index++, condition.getTemperature());
+                    ps.setDouble(index++, condition.getHumidity());
+                    ps.setDouble(index++, condition.getOxygenLevel());
+                    ps.setString(index++, condition.getZone().name());
+                }
+            }, (rs, rowNum) -> rs.getLong(1));
+
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).setRecordID(ids.get(i));
+            }
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + rows * (ROW.length() + 2) + 20).append(INSERT);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+        }
+        return sql.append(" RETURNING record_id").toString();
+    }
+}
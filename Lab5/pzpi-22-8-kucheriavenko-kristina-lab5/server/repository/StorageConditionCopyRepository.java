@@ -0,0 +1,50 @@
+package com.BiologicalMaterialsSystem.repository;
+
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+// Bulk insert through PostgreSQL COPY on the connection of the current transaction.
+// Timestamps are written in the JVM time zone, the same way Hibernate binds java.util.Date.
+@Repository
+@RequiredArgsConstructor
+public class StorageConditionCopyRepository {
+
+    private static final String COPY_SQL = "COPY storage_condition " +
+            "(material_id, measurement_time, received_time, temperature, humidity, oxygen_level, zone) " +
+            "FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+
+    public long copy(List<StorageCondition> conditions) {
+        StringBuilder csv = new StringBuilder(conditions.size() * 80);
+        for (StorageCondition condition : conditions) {
+            csv.append(condition.getMaterialID().getMaterialID()).append(',')
+                    .append(new Timestamp(condition.getMeasurementTime().getTime())).append(',')
+                    .append(new Timestamp(condition.getReceivedTime().getTime())).append(',')
+                    .append(condition.getTemperature()).append(',')
+                    .append(condition.getHumidity()).append(',')
+                    .append(condition.getOxygenLevel()).append(',')
+                    .append(condition.getZone().name()).append('\n');
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException("Copy of storage conditions failed: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+}
@@ -1,11 +1,51 @@
 package com.BiologicalMaterialsSystem.repository;
 
+import com.BiologicalMaterialsSystem.enums.StorageZone;
 import com.BiologicalMaterialsSystem.model.StorageCondition;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface StorageConditionRepository extends JpaRepository<StorageCondition, Long> {
+
+    @Query("SELECT c FROM StorageCondition c " +
+            "WHERE c.recordID < :cursor " +
+            "AND c.measurementTime >= :from AND c.measurementTime < :to " +
+            "AND (:materialId IS NULL OR c.materialID.materialID = :materialId) " +
+            "AND (:zone IS NULL OR c.zone = :zone) " +
+            "ORDER BY c.recordID DESC")
+    List<StorageCondition> findPage(
+            @Param("cursor") Long cursor,
+            @Param("from") Date from,
+            @Param("to") Date to,
+            @Param("materialId") Long materialId,
+            @Param("zone") StorageZone zone,
+            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c FROM StorageCondition c " +
+            "WHERE c.materialID.materialID = :materialId " +
+            "AND c.measurementTime >= :from AND c.measurementTime < :to " +
+            "ORDER BY c.measurementTime")
+    Stream<StorageCondition> streamByMaterialIdAndTimeRange(
+            @Param("materialId") Long materialId,
+            @Param("from") Date from,
+            @Param("to") Date to);
+
+    @Query("SELECT c FROM StorageCondition c " +
+            "WHERE c.materialID.materialID = :materialId " +
+            "ORDER BY c.measurementTime DESC")
+    List<StorageCondition> findLatestByMaterialId(
+            @Param("materialId") Long materialId,
+            Pageable pageable);
+
 }
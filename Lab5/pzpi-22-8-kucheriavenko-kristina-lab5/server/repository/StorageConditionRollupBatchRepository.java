@@ -0,0 +1,88 @@
+package com.BiologicalMaterialsSystem.repository;
+
+import com.BiologicalMaterialsSystem.enums.RollupResolution;
+import com.BiologicalMaterialsSystem.model.RollupMetric;
+import com.BiologicalMaterialsSystem.model.StorageConditionRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+// Writes rollup buckets with INSERT ... ON CONFLICT on uk_storage_condition_rollup_bucket, so that
+// several server nodes can add readings to the same bucket without overwriting each other.
+@Repository
+@RequiredArgsConstructor
+public class StorageConditionRollupBatchRepository {
+
+    private static final String COLUMNS = "(material_id, resolution, bucket_start, count, " +
+            "temperature_min, temperature_max, temperature_avg, humidity_min, humidity_max, humidity_avg, " +
+            "oxygen_level_min, oxygen_level_max, oxygen_level_avg, green_millis, yellow_millis, red_millis) ";
+    private static final String ON_BUCKET = "ON CONFLICT (material_id, resolution, bucket_start) DO UPDATE SET ";
+
+    // Adds the readings of the passed bucket: counts and zone times are summed, averages weighted by count.
+    private static final String MERGE = "INSERT INTO storage_condition_rollup AS r " + COLUMNS +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " + ON_BUCKET +
+            "count = r.count + EXCLUDED.count, " +
+            mergeMetric("temperature") + ", " + mergeMetric("humidity") + ", " + mergeMetric("oxygen_level") + ", " +
+            "green_millis = r.green_millis + EXCLUDED.green_millis, " +
+            "yellow_millis = r.yellow_millis + EXCLUDED.yellow_millis, " +
+            "red_millis = r.red_millis + EXCLUDED.red_millis";
+
+    // Recomputes the readings of a bucket from storage_condition and keeps its zone times.
+    private static final String REBUILD = "INSERT INTO storage_condition_rollup AS r " + COLUMNS +
+            "SELECT CAST(? AS bigint), CAST(? AS varchar), CAST(? AS timestamp), COUNT(*), " +
+            "MIN(temperature), MAX(temperature), AVG(temperature), MIN(humidity), MAX(humidity), AVG(humidity), " +
+            "MIN(oxygen_level), MAX(oxygen_level), AVG(oxygen_level), 0, 0, 0 " +
+            "FROM storage_condition WHERE material_id = ? AND measurement_time >= ? AND measurement_time < ? " +
+            "HAVING COUNT(*) > 0 " + ON_BUCKET +
+            "count = EXCLUDED.count, " +
+            replaceMetric("temperature") + ", " + replaceMetric("humidity") + ", " + replaceMetric("oxygen_level");
+
+    private static final String DELETE = "DELETE FROM storage_condition_rollup " +
+            "WHERE material_id = ? AND resolution = ? AND bucket_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void merge(StorageConditionRollup bucket) {
+        jdbcTemplate.update(MERGE, ps -> {
+            ps.setLong(1, bucket.getMaterialID());
+            ps.setString(2, bucket.getResolution().name());
+            ps.setTimestamp(3, new Timestamp(bucket.getBucketStart().getTime()));
+            ps.setLong(4, bucket.getCount());
+            int index = 5;
+            for (RollupMetric metric : new RollupMetric[]{bucket.getTemperature(), bucket.getHumidity(), bucket.getOxygenLevel()}) {
+                ps.setDouble(index++, metric.getMin());
+                ps.setDouble(index++, metric.getMax());
+                ps.setDouble(index++, metric.getAvg());
+            }
+            ps.setLong(14, bucket.getGreenMillis());
+            ps.setLong(15, bucket.getYellowMillis());
+            ps.setLong(16, bucket.getRedMillis());
+        });
+    }
+
+    // A bucket without stored readings left is deleted.
+    public void rebuild(Long materialId, RollupResolution resolution, Date bucketStart) {
+        Timestamp from = new Timestamp(bucketStart.getTime());
+        Timestamp to = new Timestamp(bucketStart.getTime() + resolution.getMillis());
+        int rows = jdbcTemplate.update(REBUILD, materialId, resolution.name(), from, materialId, from, to);
+        if (rows == 0) {
+            jdbcTemplate.update(DELETE, materialId, resolution.name(), from);
+        }
+    }
+
+    private static String mergeMetric(String name) {
+        return name + "_min = LEAST(r." + name + "_min, EXCLUDED." + name + "_min), " +
+                name + "_max = GREATEST(r." + name + "_max, EXCLUDED." + name + "_max), " +
+                name + "_avg = (r." + name + "_avg * r.count + EXCLUDED." + name + "_avg * EXCLUDED.count) " +
+                "/ (r.count + EXCLUDED.count)";
+    }
+
+    private static String replaceMetric(String name) {
+        return name + "_min = EXCLUDED." + name + "_min, " +
+                name + "_max = EXCLUDED." + name + "_max, " +
+                name + "_avg = EXCLUDED." + name + "_avg";
+    }
+}
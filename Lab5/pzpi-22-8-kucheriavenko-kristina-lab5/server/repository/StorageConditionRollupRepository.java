@@ -0,0 +1,16 @@
+package com.BiologicalMaterialsSystem.repository;
+
+import com.BiologicalMaterialsSystem.enums.RollupResolution;
+import com.BiologicalMaterialsSystem.model.StorageConditionRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface StorageConditionRollupRepository extends JpaRepository<StorageConditionRollup, Long> {
+
+    List<StorageConditionRollup> findByMaterialIDAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            Long materialID, RollupResolution resolution, Date from, Date to);
+}
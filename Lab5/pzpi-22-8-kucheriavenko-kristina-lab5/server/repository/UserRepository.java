@@ -1,13 +1,17 @@
 package com.BiologicalMaterialsSystem.repository;
 
 import com.BiologicalMaterialsSystem.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByLogin(String login);
 
+    List<User> findByUserIDLessThanOrderByUserIDDesc(Long cursor, Pageable pageable);
+
 }
@@ -0,0 +1,34 @@
+package com.BiologicalMaterialsSystem.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Defers in-memory bookkeeping until the surrounding transaction has committed, so a rolled-back
+// write leaves caches and statistics untouched. Without an active transaction the action runs at once.
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(action);
+            }
+        });
+    }
+
+    // The data is already committed at this point, so a failure must not reach the caller and make it retry the write.
+    private static void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            System.err.println("Помилка після фіксації транзакції: " + e.getMessage());
+        }
+    }
+}
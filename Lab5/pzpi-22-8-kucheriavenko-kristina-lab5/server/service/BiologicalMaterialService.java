@@ -1,21 +1,26 @@
 package com.BiologicalMaterialsSystem.service;
 
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.DonationStatus;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
 import com.BiologicalMaterialsSystem.model.User;
 import com.BiologicalMaterialsSystem.repository.BiologicalMaterialRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class BiologicalMaterialService {
     private final BiologicalMaterialRepository biologicalMaterialRepository;
     private final EventLogService eventLogService;
+    private final MaterialProfileCache materialProfileCache;
+    private final DeadbandFilter deadbandFilter;
 
     public void createBiologicalMaterial(User user, BiologicalMaterial biologicalMaterial) {
         biologicalMaterialRepository.save(biologicalMaterial);
-        eventLogService.logAction(user, "Added new biological material with ID: " + biologicalMaterial.getMaterialID());
+        eventLogService.logAction(user, ActionType.CREATE, EntityType.BIOLOGICAL_MATERIAL, biologicalMaterial.getMaterialID());
     }
 
     public BiologicalMaterial getBiologicalMaterialById(Long id) {
@@ -23,8 +28,12 @@ public class BiologicalMaterialService {
                 .orElseThrow(() -> new RuntimeException("Biological Material not found"));
     }
 
-    public List<BiologicalMaterial> getAllBiologicalMaterials() {
-        return biologicalMaterialRepository.findAll();
+    public CursorPage<BiologicalMaterial> getAllBiologicalMaterials(Long cursor, int limit, DonationStatus status, Long donorId) {
+        Pageable pageable = CursorPage.limit(limit);
+        return CursorPage.of(
+                biologicalMaterialRepository.findPage(CursorPage.cursorOrFirst(cursor), status, donorId, pageable),
+                pageable,
+                BiologicalMaterial::getMaterialID);
     }
 
     public BiologicalMaterial updateBiologicalMaterial(User user, Long id, BiologicalMaterial newBiologicalMaterial) {
@@ -35,12 +44,15 @@ public class BiologicalMaterialService {
         biologicalMaterial.setTransferDate(newBiologicalMaterial.getTransferDate());
         biologicalMaterial.setDonorID(newBiologicalMaterial.getDonorID());
         biologicalMaterialRepository.save(biologicalMaterial);
-        eventLogService.logAction(user, "Updated biological material with ID: " + biologicalMaterial.getMaterialID());
+        materialProfileCache.invalidate(id);
+        eventLogService.logAction(user, ActionType.UPDATE, EntityType.BIOLOGICAL_MATERIAL, biologicalMaterial.getMaterialID());
         return biologicalMaterial;
     }
 
     public void deleteBiologicalMaterial(User user, Long id) {
         biologicalMaterialRepository.deleteById(id);
-        eventLogService.logAction(user, "Deleted biological material with ID: " + id);
+        materialProfileCache.invalidate(id);
+        deadbandFilter.invalidate(id);
+        eventLogService.logAction(user, ActionType.DELETE, EntityType.BIOLOGICAL_MATERIAL, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.BiologicalMaterialsSystem.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
+
+    private static final Date EARLIEST = new Date(0);
+    private static final Date LATEST = new Date(253402300799000L);
+
+    public static Long cursorOrFirst(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    public static Date fromOrEarliest(Date from) {
+        return from != null ? from : EARLIEST;
+    }
+
+    // Listings of partitioned tables without a start are limited to the last windowDays before the end,
+    // so that they read only the recent partitions; 0 keeps the whole table.
+    public static Date fromOrWindow(Date from, Date to, int windowDays) {
+        if (from != null || windowDays <= 0) {
+            return fromOrEarliest(from);
+        }
+        Date end = to != null ? to : new Date();
+        return new Date(end.getTime() - TimeUnit.DAYS.toMillis(windowDays));
+    }
+
+    public static Date toOrLatest(Date to) {
+        return to != null ? to : LATEST;
+    }
+
+    public static Pageable limit(int limit) {
+        return PageRequest.of(0, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    public static <T> CursorPage<T> of(List<T> items, Pageable pageable, Function<T, Long> idExtractor) {
+        Long nextCursor = items.size() == pageable.getPageSize()
+                ? idExtractor.apply(items.get(items.size() - 1))
+                : null;
+        return new CursorPage<>(items, nextCursor);
+    }
+}
@@ -0,0 +1,74 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.config.DeadbandProperties;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Decides which IoT readings are written to storage_condition. A reading is kept when one of its values
+// differs from the last kept reading of the material by more than the tolerance, when its zone differs,
+// or when the heartbeat interval has passed since the last kept reading. Readings of one material always
+// come from the same ingest lane, so the per-material state is not shared between threads.
+@Component
+@RequiredArgsConstructor
+public class DeadbandFilter {
+
+    private final DeadbandProperties properties;
+
+    private final Map<Long, Persisted> lastPersisted = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    // Returns the readings of the batch that should be written. The last kept reading of each material
+    // is updated only after the write commits, so a batch that is rolled back and retried is filtered
+    // against the same state again instead of being suppressed by its own first attempt.
+    public List<StorageCondition> filter(List<StorageCondition> conditions) {
+        if (!properties.isEnabled()) {
+            return conditions;
+        }
+        Map<Long, Persisted> kept = new HashMap<>();
+        List<StorageCondition> persisted = new ArrayList<>(conditions.size());
+        for (StorageCondition condition : conditions) {
+            Long materialId = condition.getMaterialID().getMaterialID();
+            Persisted last = kept.getOrDefault(materialId, lastPersisted.get(materialId));
+            if (last != null && isWithinDeadband(condition, last)) {
+                continue;
+            }
+            kept.put(materialId, new Persisted(condition.getMeasurementTime().getTime(), condition.getTemperature(),
+                    condition.getHumidity(), condition.getOxygenLevel(), condition.getZone()));
+            persisted.add(condition);
+        }
+        int suppressedCount = conditions.size() - persisted.size();
+        AfterCommit.run(() -> {
+            lastPersisted.putAll(kept);
+            suppressed.add(suppressedCount);
+        });
+        return persisted;
+    }
+
+    private boolean isWithinDeadband(StorageCondition condition, Persisted last) {
+        return condition.getZone() == last.zone()
+                && Math.abs(condition.getMeasurementTime().getTime() - last.time()) < properties.getHeartbeatMillis()
+                && Math.abs(condition.getTemperature() - last.temperature()) <= properties.getTemperatureTolerance()
+                && Math.abs(condition.getHumidity() - last.humidity()) <= properties.getHumidityTolerance()
+                && Math.abs(condition.getOxygenLevel() - last.oxygenLevel()) <= properties.getOxygenTolerance();
+    }
+
+    public void invalidate(Long materialId) {
+        lastPersisted.remove(materialId);
+    }
+
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    private record Persisted(long time, double temperature, double humidity, double oxygenLevel, StorageZone zone) {
+    }
+}
@@ -1,11 +1,14 @@
 package com.BiologicalMaterialsSystem.service;
 
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
+import com.BiologicalMaterialsSystem.enums.RhFactorOfBlood;
 import com.BiologicalMaterialsSystem.model.Donor;
 import com.BiologicalMaterialsSystem.model.User;
 import com.BiologicalMaterialsSystem.repository.DonorRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -15,7 +18,7 @@ public class DonorService {
 
     public void createDonor(User user, Donor donor) {
         donorRepository.save(donor);
-        eventLogService.logAction(user, "Added a new donor with an ID: " + donor.getDonorID());
+        eventLogService.logAction(user, ActionType.CREATE, EntityType.DONOR, donor.getDonorID());
     }
 
     public Donor getDonorById(Long id) {
@@ -23,8 +26,12 @@ public class DonorService {
                 .orElseThrow(() -> new RuntimeException("Donor not found"));
     }
 
-    public List<Donor> getAllDonors() {
-        return donorRepository.findAll();
+    public CursorPage<Donor> getAllDonors(Long cursor, int limit, RhFactorOfBlood bloodType) {
+        Pageable pageable = CursorPage.limit(limit);
+        return CursorPage.of(
+                donorRepository.findPage(CursorPage.cursorOrFirst(cursor), bloodType, pageable),
+                pageable,
+                Donor::getDonorID);
     }
 
     public void updateDonor(User user, Long id, Donor newDonor) {
@@ -37,12 +44,12 @@ public class DonorService {
         donor.setBloodType(newDonor.getBloodType());
         donor.setTransplantRestrictions(newDonor.getTransplantRestrictions());
         donorRepository.save(donor);
-        eventLogService.logAction(user, "Updated donor with an ID: " + donor.getDonorID());
+        eventLogService.logAction(user, ActionType.UPDATE, EntityType.DONOR, donor.getDonorID());
     }
 
     public void deleteDonor(User user, Long id) {
         Long copyId = id;
         donorRepository.deleteById(id);
-        eventLogService.logAction(user, "Deleted donor with an ID: " + copyId);
+        eventLogService.logAction(user, ActionType.DELETE, EntityType.DONOR, copyId);
     }
 }
@@ -1,24 +1,139 @@
 package com.BiologicalMaterialsSystem.service;
 
+import com.BiologicalMaterialsSystem.config.BatchingQueue;
+import com.BiologicalMaterialsSystem.config.DatabaseErrors;
+import com.BiologicalMaterialsSystem.config.EventLogProperties;
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import com.BiologicalMaterialsSystem.model.EventLog;
 import com.BiologicalMaterialsSystem.model.User;
 import com.BiologicalMaterialsSystem.repository.EventLogRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class EventLogService {
     private final EventLogRepository eventLogRepository;
+    private final EventLogProperties properties;
+    private final PlatformTransactionManager transactionManager;
 
-    public void logAction(User user, String actionDetails) {
-        EventLog eventLog = new EventLog();
+    @Value("${listings.default-window-days:30}")
+    private int defaultWindowDays;
+
+    private BatchingQueue<EventLog> buffer;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        buffer = new BatchingQueue<>(
+                "event-log-writer",
+                properties.getBufferCapacity(),
+                properties.getBatchSize(),
+                properties.getFlushIntervalMillis(),
+                this::saveBatch
+        );
+        buffer.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (buffer != null) {
+            buffer.stop();
+        }
+    }
+
+    // While the database is unavailable the batch is retried; if it is rejected for another reason
+    // its entries are saved one by one, so a single invalid entry does not take the rest with it.
+    private void saveBatch(List<EventLog> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                eventLogRepository.saveAll(batch);
+                return;
+            } catch (Exception e) {
+                batch.forEach(eventLog -> eventLog.setEventLogID(null));
+                if (!DatabaseErrors.isTransient(e)) {
+                    break;
+                }
+                if (attempt >= properties.getRetryAttempts() || !pause()) {
+                    System.err.println("Пакет журналу подій втрачено (" + batch.size() + " записів): " + e.getMessage());
+                    return;
+                }
+            }
+        }
+        for (EventLog eventLog : batch) {
+            try {
+                eventLogRepository.save(eventLog);
+            } catch (Exception e) {
+                eventLog.setEventLogID(null);
+                System.err.println("Запис журналу подій відхилено: " + e.getMessage());
+            }
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getRetryDelayMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void logAction(User user, ActionType actionType, EntityType entityType, Long entityId) {
+        logAction(user, actionType, entityType, entityId, null);
+    }
+
+    public void logAction(User user, ActionType actionType, EntityType entityType, Long entityId, Map<String, Object> payload) {
+        EventLog eventLog = createEventLog(user);
+        eventLog.setActionType(actionType);
+        eventLog.setEntityType(entityType);
+        eventLog.setEntityId(entityId);
+        eventLog.setPayload(payload);
+        if (buffer == null) {
+            eventLogRepository.save(eventLog);
+            return;
+        }
+        // Buffered entries are enqueued only once the caller's transaction has committed, so a rolled-back
+        // or retried write does not leave audit entries behind. The caller's transaction is finished by then,
+        // so an entry that does not fit into the buffer is saved in a transaction of its own.
+        AfterCommit.run(() -> {
+            if (!buffer.offer(eventLog)) {
+                newTransaction().executeWithoutResult(status -> eventLogRepository.save(eventLog));
+            }
+        });
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction;
+    }
+
+    public EventLog logActionSync(User user, String actionDetails) {
+        EventLog eventLog = createEventLog(user);
         eventLog.setActionDetails(actionDetails);
+        return eventLogRepository.save(eventLog);
+    }
+
+    private EventLog createEventLog(User user) {
+        EventLog eventLog = new EventLog();
         eventLog.setActionTime(new Date());
         eventLog.setCreatorID(user);
-        eventLogRepository.save(eventLog);
+        return eventLog;
     }
 
     public void updateEventLog(User user, String actionDetails, Date newDate) {
@@ -34,8 +149,20 @@ public class EventLogService {
                 .orElseThrow(() -> new RuntimeException("Event Log not found"));
     }
 
-    public List<EventLog> getAllEventLogs() {
-        return eventLogRepository.findAll();
+    public CursorPage<EventLog> getAllEventLogs(Long cursor, int limit, Date from, Date to,
+                                                ActionType actionType, EntityType entityType, Long entityId) {
+        Pageable pageable = CursorPage.limit(limit);
+        return CursorPage.of(
+                eventLogRepository.findPage(
+                        CursorPage.cursorOrFirst(cursor),
+                        CursorPage.fromOrWindow(from, to, defaultWindowDays),
+                        CursorPage.toOrLatest(to),
+                        actionType,
+                        entityType,
+                        entityId,
+                        pageable),
+                pageable,
+                EventLog::getEventLogID);
     }
 
     public void deleteEventLog(Long id) {
@@ -0,0 +1,10 @@
+package com.BiologicalMaterialsSystem.service;
+
+import java.util.List;
+
+// Only rejected rows are listed (up to a limit); every other row was accepted.
+public record ImportResult(long total, long accepted, long rejected, List<RowError> errors) {
+
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.config.IotEventLogProperties;
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Replaces the per-reading event log entries of IoT readings with one summary entry per material
+// and interval. Entries of user actions are not affected.
+@Component
+@RequiredArgsConstructor
+public class IotEventLogAggregator {
+
+    private final IotEventLogProperties properties;
+    private final EventLogService eventLogService;
+
+    private final Map<Long, Summary> summaries = new ConcurrentHashMap<>();
+
+    // Returns false when aggregation is disabled and the reading has to be logged on its own.
+    // The reading is counted only once its transaction has committed, so a rolled-back or retried
+    // chunk is not counted twice.
+    public boolean record(StorageCondition condition) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        AfterCommit.run(() -> {
+            Summary summary = summaries.computeIfAbsent(condition.getMaterialID().getMaterialID(), id -> new Summary());
+            synchronized (summary) {
+                summary.add(condition);
+            }
+        });
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${event-log.iot-aggregation.interval-millis:60000}")
+    public void flush() {
+        for (Map.Entry<Long, Summary> entry : summaries.entrySet()) {
+            Summary summary = entry.getValue();
+            Map<String, Object> payload;
+            synchronized (summary) {
+                if (summary.count == 0) {
+                    continue;
+                }
+                payload = summary.payload();
+                summary.reset();
+            }
+            eventLogService.logAction(null, ActionType.SUMMARY, EntityType.BIOLOGICAL_MATERIAL, entry.getKey(), payload);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    private static final class Summary {
+        private final Map<StorageZone, Integer> zones = new EnumMap<>(StorageZone.class);
+        private int count;
+        private long firstTime;
+        private long lastTime;
+        private double minTemperature;
+        private double maxTemperature;
+        private double minHumidity;
+        private double maxHumidity;
+        private double minOxygenLevel;
+        private double maxOxygenLevel;
+
+        private void add(StorageCondition condition) {
+            long time = condition.getMeasurementTime().getTime();
+            if (count == 0) {
+                firstTime = lastTime = time;
+                minTemperature = maxTemperature = condition.getTemperature();
+                minHumidity = maxHumidity = condition.getHumidity();
+                minOxygenLevel = maxOxygenLevel = condition.getOxygenLevel();
+            } else {
+                firstTime = Math.min(firstTime, time);
+                lastTime = Math.max(lastTime, time);
+                minTemperature = Math.min(minTemperature, condition.getTemperature());
+                maxTemperature = Math.max(maxTemperature, condition.getTemperature());
+                minHumidity = Math.min(minHumidity, condition.getHumidity());
+                maxHumidity = Math.max(maxHumidity, condition.getHumidity());
+                minOxygenLevel = Math.min(minOxygenLevel, condition.getOxygenLevel());
+                maxOxygenLevel = Math.max(maxOxygenLevel, condition.getOxygenLevel());
+            }
+            zones.merge(condition.getZone(), 1, Integer::sum);
+            count++;
+        }
+
+        private Map<String, Object> payload() {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("readings", count);
+            payload.put("from", Instant.ofEpochMilli(firstTime).toString());
+            payload.put("to", Instant.ofEpochMilli(lastTime).toString());
+            zones.forEach((zone, zoneCount) -> payload.put(zone.name(), zoneCount));
+            payload.put("minOxygenLevel", minOxygenLevel);
+            payload.put("maxOxygenLevel", maxOxygenLevel);
+            payload.put("minHumidity", minHumidity);
+            payload.put("maxHumidity", maxHumidity);
+            payload.put("minTemperature", minTemperature);
+            payload.put("maxTemperature", maxTemperature);
+            return payload;
+        }
+
+        private void reset() {
+            zones.clear();
+            count = 0;
+        }
+    }
+}
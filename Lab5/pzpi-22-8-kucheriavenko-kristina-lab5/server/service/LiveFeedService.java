@@ -0,0 +1,146 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.Notification;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Each subscriber has its own bounded buffer drained by a shared sender pool, so a slow
+// client never blocks ingestion. A subscriber whose buffer overflows is disconnected.
+@Service
+public class LiveFeedService {
+
+    private static final String CONDITION_EVENT = "storage-condition";
+    private static final String NOTIFICATION_EVENT = "notification";
+
+    @Value("${live-feed.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${live-feed.timeout-millis:1800000}")
+    private long timeoutMillis;
+
+    @Value("${live-feed.sender-threads:4}")
+    private int senderThreads;
+
+    private final Set<Subscriber> conditionSubscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> notificationSubscribers = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService sender;
+
+    @PostConstruct
+    public void start() {
+        sender = Executors.newFixedThreadPool(senderThreads);
+    }
+
+    @PreDestroy
+    public void stop() {
+        conditionSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        notificationSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdownNow();
+    }
+
+    public SseEmitter subscribeToConditions(Long materialId) {
+        return subscribe(conditionSubscribers, materialId);
+    }
+
+    public SseEmitter subscribeToNotifications(Long materialId) {
+        return subscribe(notificationSubscribers, materialId);
+    }
+
+    // Events carry only the material ID: readings from IoT hold a material reference without its fields,
+    // so publishing the entity would give events of the same type different shapes.
+    public void publishCondition(StorageCondition condition) {
+        ConditionEvent event = ConditionEvent.of(condition);
+        AfterCommit.run(() -> publish(conditionSubscribers, CONDITION_EVENT, event.materialID(), event));
+    }
+
+    public void publishNotification(Notification notification) {
+        NotificationEvent event = NotificationEvent.of(notification);
+        AfterCommit.run(() -> publish(notificationSubscribers, NOTIFICATION_EVENT, event.materialID(), event));
+    }
+
+    private SseEmitter subscribe(Set<Subscriber> subscribers, Long materialId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, materialId, new ArrayBlockingQueue<>(bufferSize));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        return emitter;
+    }
+
+    private void publish(Set<Subscriber> subscribers, String eventName, Long materialId, Object data) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.materialId != null && !subscriber.materialId.equals(materialId)) {
+                continue;
+            }
+            if (!subscriber.buffer.offer(data)) {
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+            if (subscriber.draining.compareAndSet(false, true)) {
+                sender.execute(() -> drain(subscribers, subscriber, eventName));
+            }
+        }
+    }
+
+    private void drain(Set<Subscriber> subscribers, Subscriber subscriber, String eventName) {
+        do {
+            Object data;
+            while ((data = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(SseEmitter.event().name(eventName).data(data));
+                } catch (Exception e) {
+                    subscribers.remove(subscriber);
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    public record ConditionEvent(Long recordID, Long materialID, double temperature, double oxygenLevel, double humidity,
+                                 Date measurementTime, Date receivedTime, @JsonProperty("storage_zone") StorageZone zone) {
+
+        private static ConditionEvent of(StorageCondition condition) {
+            return new ConditionEvent(condition.getRecordID(), condition.getMaterialID().getMaterialID(),
+                    condition.getTemperature(), condition.getOxygenLevel(), condition.getHumidity(),
+                    condition.getMeasurementTime(), condition.getReceivedTime(), condition.getZone());
+        }
+    }
+
+    public record NotificationEvent(Long notificationID, Long materialID, String eventType, String details, Date notificationTime,
+                                    Integer occurrences, Date firstSeen, Date lastSeen, StorageZone zone) {
+
+        private static NotificationEvent of(Notification notification) {
+            return new NotificationEvent(notification.getNotificationID(), notification.getMaterialID().getMaterialID(),
+                    notification.getEventType(), notification.getDetails(), notification.getNotificationTime(),
+                    notification.getOccurrences(), notification.getFirstSeen(), notification.getLastSeen(), notification.getZone());
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, Long materialId, BlockingQueue<Object> buffer, AtomicBoolean draining) {
+        private Subscriber(SseEmitter emitter, Long materialId, BlockingQueue<Object> buffer) {
+            this(emitter, materialId, buffer, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import com.BiologicalMaterialsSystem.repository.BiologicalMaterialRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// invalidate() only clears the cache of this server instance. Entries also expire after ttlMillis,
+// so a material changed through another instance is scored with its new ideal values at most that much later.
+@Component
+@RequiredArgsConstructor
+public class MaterialProfileCache {
+
+    private final BiologicalMaterialRepository biologicalMaterialRepository;
+
+    @Value("${materials.profile-cache.ttl-millis:60000}")
+    private long ttlMillis;
+
+    private final Map<Long, Entry> profiles = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MaterialProfile get(Long materialId) {
+        long now = System.currentTimeMillis();
+        Entry entry = profiles.get(materialId);
+        if (entry != null && !entry.isExpired(now, ttlMillis)) {
+            hits.increment();
+            return entry.profile();
+        }
+        misses.increment();
+        return profiles.compute(materialId, (id, current) ->
+                current != null && !current.isExpired(now, ttlMillis) ? current : new Entry(load(id), now)).profile();
+    }
+
+    public void invalidate(Long materialId) {
+        profiles.remove(materialId);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    private MaterialProfile load(Long materialId) {
+        BiologicalMaterial material = biologicalMaterialRepository.findById(materialId)
+                .orElseThrow(() -> new RuntimeException("Biological Material not found"));
+        return new MaterialProfile(
+                material.getIdealTemperature(),
+                material.getIdealHumidity(),
+                material.getIdealOxygenLevel()
+        );
+    }
+
+    private record Entry(MaterialProfile profile, long loadedAt) {
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return ttlMillis > 0 && now - loadedAt >= ttlMillis;
+        }
+    }
+
+    public record MaterialProfile(double idealTemperature, double idealHumidity, double idealOxygenLevel) {
+
+        public double score(double temperature, double humidity, double oxygenLevel) {
+            double normTemp = 1 - Math.abs((temperature - idealTemperature) / 10.0);
+            double normHumidity = 1 - Math.abs((humidity - idealHumidity) / 100.0);
+            double normOxygen = 1 - Math.abs((oxygenLevel - idealOxygenLevel) / 100.0);
+
+            return (normTemp * 0.5 + normHumidity * 0.3 + normOxygen * 0.2);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.model.MaterialStatistics;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.BiologicalMaterialsSystem.repository.MaterialStatisticsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Each node keeps only the changes applied since its last flush and merges them into the stored row
+// under a row lock, so changes made by other nodes are not overwritten. A material without a stored row
+// is seeded from its readings in storage_condition, which already include the pending changes.
+// Changes are applied only after the surrounding transaction commits.
+@Service
+@RequiredArgsConstructor
+public class MaterialStatisticsService {
+
+    private final MaterialStatisticsRepository statisticsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public void record(StorageCondition condition) {
+        Pending changes = pending(condition.getMaterialID().getMaterialID());
+        double temperature = condition.getTemperature();
+        double humidity = condition.getHumidity();
+        double oxygenLevel = condition.getOxygenLevel();
+        AfterCommit.run(() -> {
+            synchronized (changes) {
+                changes.added.add(temperature, humidity, oxygenLevel);
+            }
+        });
+    }
+
+    public void unrecord(StorageCondition condition) {
+        Pending changes = pending(condition.getMaterialID().getMaterialID());
+        double temperature = condition.getTemperature();
+        double humidity = condition.getHumidity();
+        double oxygenLevel = condition.getOxygenLevel();
+        AfterCommit.run(() -> {
+            synchronized (changes) {
+                changes.removed.add(temperature, humidity, oxygenLevel);
+            }
+        });
+    }
+
+    public Map<String, Double> getAverages(Long materialId) {
+        MaterialStatistics stats = getStatistics(materialId);
+        Map<String, Double> averages = new HashMap<>();
+        if (stats.getCount() > 0) {
+            averages.put("avgTemperature", stats.getTemperature().getMean());
+            averages.put("avgOxygenLevel", stats.getOxygenLevel().getMean());
+            averages.put("avgHumidity", stats.getHumidity().getMean());
+        }
+        return averages;
+    }
+
+    // A copy of the stored statistics with the changes of this node that are not flushed yet.
+    public MaterialStatistics getStatistics(Long materialId) {
+        Pending changes = pending(materialId);
+        MaterialStatistics stats = new MaterialStatistics();
+        stats.setMaterialID(materialId);
+        synchronized (changes) {
+            Optional<MaterialStatistics> stored = statisticsRepository.findById(materialId);
+            // Without pending changes the stored readings are all there is, so the row can be seeded now.
+            if (stored.isEmpty() && changes.isEmpty()) {
+                newTransaction().executeWithoutResult(status -> statisticsRepository.seed(materialId));
+                stored = statisticsRepository.findById(materialId);
+            }
+            stored.ifPresent(stats::merge);
+            stats.merge(changes.added);
+            stats.subtract(changes.removed);
+        }
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${statistics.flush-interval-millis:10000}")
+    public void flush() {
+        TransactionTemplate transaction = newTransaction();
+        for (Map.Entry<Long, Pending> entry : pending.entrySet()) {
+            Long materialId = entry.getKey();
+            Pending changes = entry.getValue();
+            synchronized (changes) {
+                if (changes.isEmpty()) {
+                    continue;
+                }
+                try {
+                    transaction.executeWithoutResult(status -> write(materialId, changes));
+                    changes.clear();
+                } catch (Exception e) {
+                    System.err.println("Не вдалося зберегти статистику матеріалу " + materialId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void write(Long materialId, Pending changes) {
+        Optional<MaterialStatistics> stored = statisticsRepository.findForUpdate(materialId);
+        if (stored.isEmpty()) {
+            if (statisticsRepository.seed(materialId) > 0) {
+                return;
+            }
+            stored = statisticsRepository.findForUpdate(materialId);
+        }
+        MaterialStatistics stats = stored.orElseThrow(() -> new RuntimeException("Material statistics not found"));
+        stats.merge(changes.added);
+        stats.subtract(changes.removed);
+    }
+
+    private Pending pending(Long materialId) {
+        return pending.computeIfAbsent(materialId, id -> new Pending());
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction;
+    }
+
+    private static final class Pending {
+        private MaterialStatistics added;
+        private MaterialStatistics removed;
+
+        private Pending() {
+            clear();
+        }
+
+        private boolean isEmpty() {
+            return added.getCount() == 0 && removed.getCount() == 0;
+        }
+
+        private void clear() {
+            added = new MaterialStatistics();
+            removed = new MaterialStatistics();
+        }
+    }
+}
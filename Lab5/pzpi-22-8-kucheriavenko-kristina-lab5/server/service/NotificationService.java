@@ -1,21 +1,32 @@
 package com.BiologicalMaterialsSystem.service;
 
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import com.BiologicalMaterialsSystem.model.Notification;
 import com.BiologicalMaterialsSystem.model.User;
 import com.BiologicalMaterialsSystem.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import java.util.List;
+import java.util.Date;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final EventLogService eventLogService;
+    private final LiveFeedService liveFeedService;
 
     public void createNotification(User user, Notification notification) {
+        if (notification.getFirstSeen() == null) {
+            notification.setFirstSeen(notification.getNotificationTime());
+        }
+        if (notification.getLastSeen() == null) {
+            notification.setLastSeen(notification.getFirstSeen());
+        }
         notificationRepository.save(notification);
-        eventLogService.logAction(user, "Added new notification with ID: " + notification.getNotificationID());
+        liveFeedService.publishNotification(notification);
+        eventLogService.logAction(user, ActionType.CREATE, EntityType.NOTIFICATION, notification.getNotificationID());
     }
 
     public Notification getNotificationById(Long id) {
@@ -23,8 +34,17 @@ public class NotificationService {
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
     }
 
-    public List<Notification> getAllNotifications() {
-        return notificationRepository.findAll();
+    public CursorPage<Notification> getAllNotifications(Long cursor, int limit, Date from, Date to, Long materialId) {
+        Pageable pageable = CursorPage.limit(limit);
+        return CursorPage.of(
+                notificationRepository.findPage(
+                        CursorPage.cursorOrFirst(cursor),
+                        CursorPage.fromOrEarliest(from),
+                        CursorPage.toOrLatest(to),
+                        materialId,
+                        pageable),
+                pageable,
+                Notification::getNotificationID);
     }
 
     public void updateNotification(User user, Long id, Notification newNotification) {
@@ -35,11 +55,11 @@ public class NotificationService {
         notification.setStatus(newNotification.getStatus());
         notification.setMaterialID(newNotification.getMaterialID());
         notificationRepository.save(notification);
-        eventLogService.logAction(user, "Updated notification with ID: " + notification.getNotificationID());
+        eventLogService.logAction(user, ActionType.UPDATE, EntityType.NOTIFICATION, notification.getNotificationID());
     }
 
     public void deleteNotification(User user, Long id) {
         notificationRepository.deleteById(id);
-        eventLogService.logAction(user, "Deleted notification with ID: " + id);
+        eventLogService.logAction(user, ActionType.DELETE, EntityType.NOTIFICATION, id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,218 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.config.DatabaseErrors;
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
+import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.BiologicalMaterialsSystem.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Imports NDJSON (one StorageCondition JSON object per line) or CSV with the header
+// materialID,measurementTime,temperature,humidity,oxygenLevel in any column order. CSV values may be
+// quoted as in RFC 4180; a quoted value cannot span lines.
+@Service
+@RequiredArgsConstructor
+public class StorageConditionImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final String[] CSV_COLUMNS = {"materialID", "measurementTime", "temperature", "humidity", "oxygenLevel"};
+
+    private final StorageConditionService storageConditionService;
+    private final MaterialProfileCache materialProfileCache;
+    private final EventLogService eventLogService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${storage-conditions.import.chunk-size:5000}")
+    private int chunkSize;
+
+    public ImportResult importConditions(User user, InputStream body, boolean csv) throws IOException {
+        Progress progress = new Progress();
+        List<StorageCondition> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkRows = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            int[] columns = csv ? csvColumns(reader.readLine()) : null;
+            StdDateFormat dateFormat = new StdDateFormat();
+            long row = csv ? 1 : 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                row++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.total++;
+                try {
+                    StorageCondition condition = csv ? parseCsv(line, columns, dateFormat) : parseJson(line);
+                    validate(condition);
+                    chunk.add(condition);
+                    chunkRows.add(row);
+                } catch (Exception e) {
+                    progress.reject(row, e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, chunkRows, progress);
+                }
+            }
+        }
+        flush(chunk, chunkRows, progress);
+
+        eventLogService.logAction(user, ActionType.IMPORT, EntityType.STORAGE_CONDITION, null,
+                Map.of("accepted", progress.accepted, "rejected", progress.rejected));
+        return new ImportResult(progress.total, progress.accepted, progress.rejected, progress.errors);
+    }
+
+    private void flush(List<StorageCondition> chunk, List<Long> chunkRows, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            progress.accepted += storageConditionService.copyConditions(chunk);
+        } catch (Exception e) {
+            if (DatabaseErrors.isTransient(e) || chunk.size() == 1) {
+                for (Long row : chunkRows) {
+                    progress.reject(row, e.getMessage());
+                }
+            } else {
+                copyEach(chunk, chunkRows, progress);
+            }
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    // The chunk is copied in one transaction, so one bad row rolls back all of it. Copying the rows
+    // one by one finds the bad rows and reports each with its own error.
+    private void copyEach(List<StorageCondition> chunk, List<Long> chunkRows, Progress progress) {
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                progress.accepted += storageConditionService.copyConditions(List.of(chunk.get(i)));
+            } catch (Exception e) {
+                progress.reject(chunkRows.get(i), e.getMessage());
+            }
+        }
+    }
+
+    private StorageCondition parseJson(String line) throws IOException {
+        return objectMapper.readValue(line, StorageCondition.class);
+    }
+
+    private StorageCondition parseCsv(String line, int[] columns, StdDateFormat dateFormat) throws Exception {
+        List<String> values = splitCsv(line);
+        int required = Arrays.stream(columns).max().getAsInt() + 1;
+        if (values.size() < required) {
+            throw new IllegalArgumentException("Expected " + required + " columns");
+        }
+        BiologicalMaterial material = new BiologicalMaterial();
+        material.setMaterialID(Long.parseLong(values.get(columns[0]).trim()));
+
+        StorageCondition condition = new StorageCondition();
+        condition.setMaterialID(material);
+        condition.setMeasurementTime(dateFormat.parse(values.get(columns[1]).trim()));
+        condition.setTemperature(Double.parseDouble(values.get(columns[2]).trim()));
+        condition.setHumidity(Double.parseDouble(values.get(columns[3]).trim()));
+        condition.setOxygenLevel(Double.parseDouble(values.get(columns[4]).trim()));
+        return condition;
+    }
+
+    // Splits one CSV line: a value in double quotes may contain commas, and "" inside it stands for one quote.
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '"' && value.toString().isBlank()) {
+                value.setLength(0);
+                quoted = true;
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private int[] csvColumns(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        // Spreadsheet exports often start with a byte order mark.
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i).trim().toLowerCase(), i);
+        }
+        int[] columns = new int[CSV_COLUMNS.length];
+        for (int i = 0; i < CSV_COLUMNS.length; i++) {
+            Integer position = positions.get(CSV_COLUMNS[i].toLowerCase());
+            if (position == null) {
+                throw new IllegalArgumentException("CSV header must contain " + CSV_COLUMNS[i]);
+            }
+            columns[i] = position;
+        }
+        return columns;
+    }
+
+    private void validate(StorageCondition condition) {
+        if (condition.getMaterialID() == null || condition.getMaterialID().getMaterialID() == null) {
+            throw new IllegalArgumentException("Biological material cannot be null");
+        }
+        Set<ConstraintViolation<StorageCondition>> violations = validator.validate(condition);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage());
+        }
+        materialProfileCache.get(condition.getMaterialID().getMaterialID());
+    }
+
+    private static final class Progress {
+        private long total;
+        private long accepted;
+        private long rejected;
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+
+        private void reject(long row, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResult.RowError(row, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.enums.RollupResolution;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import com.BiologicalMaterialsSystem.model.StorageConditionRollup;
+import com.BiologicalMaterialsSystem.repository.StorageConditionRollupBatchRepository;
+import com.BiologicalMaterialsSystem.repository.StorageConditionRollupRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Each node keeps only the readings it has added since its last flush and merges them into the stored
+// buckets, so buckets written by other nodes are added to rather than overwritten.
+@Service
+@RequiredArgsConstructor
+public class StorageConditionRollupService {
+
+    private final StorageConditionRollupRepository rollupRepository;
+    private final StorageConditionRollupBatchRepository rollupBatchRepository;
+
+    @Value("${rollups.max-zone-gap-millis:300000}")
+    private long maxZoneGapMillis;
+
+    private final Map<Long, MaterialRollups> materials = new ConcurrentHashMap<>();
+
+    // Applied once the reading has committed, so a rolled-back write or a failed COPY is not counted.
+    public void record(StorageCondition condition) {
+        AfterCommit.run(() -> apply(condition));
+    }
+
+    private void apply(StorageCondition condition) {
+        Long materialId = condition.getMaterialID().getMaterialID();
+        long time = condition.getMeasurementTime().getTime();
+        MaterialRollups rollups = materials.computeIfAbsent(materialId, MaterialRollups::new);
+
+        synchronized (rollups) {
+            long zoneMillis = 0;
+            if (rollups.lastZone != null && time > rollups.lastTime) {
+                zoneMillis = Math.min(time - rollups.lastTime, maxZoneGapMillis);
+            }
+            for (RollupResolution resolution : RollupResolution.values()) {
+                StorageConditionRollup bucket = rollups.bucket(resolution, time);
+                bucket.add(condition.getTemperature(), condition.getHumidity(), condition.getOxygenLevel());
+                if (zoneMillis > 0) {
+                    bucket.addZoneTime(rollups.lastZone, zoneMillis);
+                }
+            }
+            if (time >= rollups.lastTime) {
+                rollups.lastTime = time;
+                rollups.lastZone = condition.getZone();
+            }
+        }
+    }
+
+    // Buckets of an edited or deleted reading are recomputed from storage_condition once the change has committed.
+    // Readings suppressed by the deadband filter are not stored, so they drop out of a rebuilt bucket; zone times are kept.
+    // Pending readings of this node are merged first, as the recomputed values already include them.
+    public void rebuild(Long materialId, Date time) {
+        AfterCommit.run(() -> {
+            MaterialRollups rollups = materials.computeIfAbsent(materialId, MaterialRollups::new);
+            synchronized (rollups) {
+                rollups.flush();
+                for (RollupResolution resolution : RollupResolution.values()) {
+                    rollupBatchRepository.rebuild(materialId, resolution, new Date(resolution.bucketStart(time.getTime())));
+                }
+            }
+        });
+    }
+
+    public List<StorageConditionRollup> getRollups(Long materialId, Date from, Date to, int maxPoints) {
+        RollupResolution resolution = chooseResolution(to.getTime() - from.getTime(), maxPoints);
+        Date bucketFrom = new Date(resolution.bucketStart(from.getTime()));
+        return rollupRepository
+                .findByMaterialIDAndResolutionAndBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+                        materialId, resolution, bucketFrom, to);
+    }
+
+    public RollupResolution chooseResolution(long rangeMillis, int maxPoints) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            if (rangeMillis / resolution.getMillis() <= maxPoints) {
+                return resolution;
+            }
+        }
+        return RollupResolution.DAY;
+    }
+
+    @Scheduled(fixedDelayString = "${rollups.flush-interval-millis:30000}")
+    public void flush() {
+        for (MaterialRollups rollups : materials.values()) {
+            synchronized (rollups) {
+                rollups.flush();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private final class MaterialRollups {
+        private final Long materialId;
+        private final Map<RollupResolution, Map<Long, StorageConditionRollup>> pending =
+                new EnumMap<>(RollupResolution.class);
+        private long lastTime = Long.MIN_VALUE;
+        private StorageZone lastZone;
+
+        private MaterialRollups(Long materialId) {
+            this.materialId = materialId;
+            for (RollupResolution resolution : RollupResolution.values()) {
+                pending.put(resolution, new HashMap<>());
+            }
+        }
+
+        private StorageConditionRollup bucket(RollupResolution resolution, long time) {
+            return pending.get(resolution).computeIfAbsent(resolution.bucketStart(time), start -> {
+                StorageConditionRollup bucket = new StorageConditionRollup();
+                bucket.setMaterialID(materialId);
+                bucket.setResolution(resolution);
+                bucket.setBucketStart(new Date(start));
+                return bucket;
+            });
+        }
+
+        // A bucket is dropped only once merged; one that failed is retried with the readings added meanwhile.
+        private void flush() {
+            for (Map<Long, StorageConditionRollup> buckets : pending.values()) {
+                Iterator<StorageConditionRollup> iterator = buckets.values().iterator();
+                while (iterator.hasNext()) {
+                    StorageConditionRollup bucket = iterator.next();
+                    try {
+                        rollupBatchRepository.merge(bucket);
+                        iterator.remove();
+                    } catch (Exception e) {
+                        System.err.println("Не вдалося зберегти агрегати матеріалу " + materialId + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
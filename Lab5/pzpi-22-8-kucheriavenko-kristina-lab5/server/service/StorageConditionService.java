@@ -1,91 +1,149 @@
 package com.BiologicalMaterialsSystem.service;
 
+import com.BiologicalMaterialsSystem.enums.ActionType;
+import com.BiologicalMaterialsSystem.enums.EntityType;
 import com.BiologicalMaterialsSystem.enums.StorageZone;
 import com.BiologicalMaterialsSystem.model.*;
-import com.BiologicalMaterialsSystem.repository.NotificationRepository;
+import com.BiologicalMaterialsSystem.repository.StorageConditionBatchRepository;
+import com.BiologicalMaterialsSystem.repository.StorageConditionCopyRepository;
 import com.BiologicalMaterialsSystem.repository.StorageConditionRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class StorageConditionService {
 
     private final StorageConditionRepository repository;
-    private final NotificationRepository notificationRepository;
+    private final StorageConditionCopyRepository copyRepository;
+    private final StorageConditionBatchRepository batchRepository;
     private final EventLogService eventLogService;
-    private final BiologicalMaterialService biologicalMaterialService;
-
+    private final MaterialProfileCache materialProfileCache;
+    private final MaterialStatisticsService materialStatisticsService;
+    private final StorageConditionRollupService rollupService;
+    private final ZoneStateService zoneStateService;
+    private final DeadbandFilter deadbandFilter;
+    private final IotEventLogAggregator iotEventLogAggregator;
+    private final LiveFeedService liveFeedService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${listings.default-window-days:30}")
+    private int defaultWindowDays;
+
+    @Transactional
     public void createCondition(User user, StorageCondition condition) {
         processCondition(condition);
+        materialStatisticsService.record(condition);
+        rollupService.record(condition);
         repository.save(condition);
-        String logMessage = logMessage(condition, "User with ID " + user.getUserID() + ". Add new ");
-        eventLogService.logAction(user, logMessage);
+        liveFeedService.publishCondition(condition);
+        eventLogService.logAction(user, ActionType.CREATE, EntityType.STORAGE_CONDITION, condition.getRecordID(), logPayload(condition));
     }
 
+    @Transactional
     public void createCondition(StorageCondition condition) {
         processCondition(condition);
+        materialStatisticsService.record(condition);
+        rollupService.record(condition);
         repository.save(condition);
-        String logMessage = logMessage(condition, "IOT");
-        eventLogService.logAction(null, logMessage);
+        liveFeedService.publishCondition(condition);
+        logIotCondition(condition);
     }
 
-    private void processCondition(StorageCondition condition) {
-        BiologicalMaterial material = biologicalMaterialService.getBiologicalMaterialById(condition.getMaterialID().getMaterialID());
-
-        double score = calculateEnvironmentScore(condition);
-        StorageZone zone = determineZone(score);
-
-        condition.setZone(zone);
-        condition.setMeasurementTime(new Date());
-
-        if (zone != StorageZone.GREEN) {
-            Notification notification = new Notification();
-            notification.setEventType("Hazardous storage conditions");
-            notification.setDetails("Material in the zone: " + zone.name());
-            notification.setNotificationTime(new Date());
-            notification.setMaterialID(material);
-            notificationRepository.save(notification);
+    // Readings suppressed by the deadband filter are counted in statistics and rollups but not written.
+    @Transactional
+    public void createConditions(List<StorageCondition> conditions) {
+        for (StorageCondition condition : conditions) {
+            processCondition(condition);
+            materialStatisticsService.record(condition);
+            rollupService.record(condition);
+        }
+        List<StorageCondition> persisted = deadbandFilter.filter(conditions);
+        batchRepository.insertAll(persisted);
+        for (StorageCondition condition : persisted) {
+            liveFeedService.publishCondition(condition);
+            logIotCondition(condition);
         }
     }
 
-    private String logMessage(StorageCondition condition, String creator) {
-        return String.format(
-                "storage condition by %s and material with ID: %d | " +
-                        "Zone: %s, " +
-                        "Oxygen Level: %.2f%%, " +
-                        "Humidity: %.2f%%, " +
-                        "Temperature: %.2f°C",
-                creator,
-                condition.getMaterialID().getMaterialID(),
-                condition.getZone(),
-                condition.getOxygenLevel(),
-                condition.getHumidity(),
-                condition.getTemperature()
-        );
+    // Rows are inserted with COPY: they get no IDs back and are not published to the live feed.
+    @Transactional
+    public long copyConditions(List<StorageCondition> conditions) {
+        for (StorageCondition condition : conditions) {
+            processCondition(condition);
+            materialStatisticsService.record(condition);
+            rollupService.record(condition);
+        }
+        return copyRepository.copy(conditions);
     }
 
-    public double calculateEnvironmentScore(StorageCondition condition) {
-        BiologicalMaterial material = biologicalMaterialService.getBiologicalMaterialById(condition.getMaterialID().getMaterialID());
+    private void processCondition(StorageCondition condition) {
+        double score = calculateEnvironmentScore(condition);
+
+        condition.setZone(determineZone(score));
 
-        double idealTemp = material.getIdealTemperature();
-        double idealHumidity = material.getIdealHumidity();
-        double idealOxygen = material.getIdealOxygenLevel();
+        Date now = new Date();
+        if (condition.getReceivedTime() == null) {
+            condition.setReceivedTime(now);
+        }
+        if (condition.getMeasurementTime() == null || condition.getMeasurementTime().after(now)) {
+            condition.setMeasurementTime(condition.getReceivedTime());
+        }
 
-        double normTemp = 1 - Math.abs((condition.getTemperature() - idealTemp) / 10.0);
-        double normHumidity = 1 - Math.abs((condition.getHumidity() - idealHumidity) / 100.0);
-        double normOxygen = 1 - Math.abs((condition.getOxygenLevel() - idealOxygen) / 100.0);
+        BiologicalMaterial material = condition.getMaterialID();
+        Date time = condition.getMeasurementTime();
+        AfterCommit.run(() -> zoneStateService.observe(material, score, time));
+    }
 
-        return (normTemp * 0.5 + normHumidity * 0.3 + normOxygen * 0.2);
+    private void logIotCondition(StorageCondition condition) {
+        if (!iotEventLogAggregator.record(condition)) {
+            eventLogService.logAction(null, ActionType.RECORD, EntityType.STORAGE_CONDITION, condition.getRecordID(), logPayload(condition));
+        }
+    }
+
+    static Map<String, Object> logPayload(StorageCondition condition) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("materialID", condition.getMaterialID().getMaterialID());
+        payload.put("zone", condition.getZone().name());
+        payload.put("oxygenLevel", condition.getOxygenLevel());
+        payload.put("humidity", condition.getHumidity());
+        payload.put("temperature", condition.getTemperature());
+        return payload;
+    }
+
+    public double calculateEnvironmentScore(StorageCondition condition) {
+        MaterialProfileCache.MaterialProfile profile = materialProfileCache.get(condition.getMaterialID().getMaterialID());
+        return profile.score(condition.getTemperature(), condition.getHumidity(), condition.getOxygenLevel());
     }
 
     public StorageZone determineZone(double score) {
-        if (score < 0.3) return StorageZone.RED;
-        if (score < 0.7) return StorageZone.YELLOW;
-        return StorageZone.GREEN;
+        return StorageZone.fromScore(score);
+    }
+
+    public Map<String, Long> getMaterialCacheStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", materialProfileCache.getHits());
+        stats.put("misses", materialProfileCache.getMisses());
+        stats.put("size", (long) materialProfileCache.size());
+        return stats;
     }
 
     public StorageCondition getConditionById(Long id) {
@@ -93,26 +151,71 @@ public class StorageConditionService {
                 .orElseThrow(() -> new RuntimeException("Condition not found"));
     }
 
-    public List<StorageCondition> getAllConditions() {
-        return repository.findAll();
+    public CursorPage<StorageCondition> getAllConditions(Long cursor, int limit, Date from, Date to, Long materialId, StorageZone zone) {
+        Pageable pageable = CursorPage.limit(limit);
+        return CursorPage.of(
+                repository.findPage(
+                        CursorPage.cursorOrFirst(cursor),
+                        CursorPage.fromOrWindow(from, to, defaultWindowDays),
+                        CursorPage.toOrLatest(to),
+                        materialId,
+                        zone,
+                        pageable),
+                pageable,
+                StorageCondition::getRecordID);
     }
 
+    @Transactional(readOnly = true)
+    public void streamConditions(Long materialId, Date from, Date to, OutputStream out) throws IOException {
+        try (Stream<StorageCondition> conditions = repository.streamByMaterialIdAndTimeRange(materialId, from, to);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            Iterator<StorageCondition> iterator = conditions.iterator();
+            while (iterator.hasNext()) {
+                StorageCondition condition = iterator.next();
+                objectMapper.writeValue(generator, condition);
+                entityManager.detach(condition);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    public List<StorageConditionRollup> getRollups(Long materialId, Date from, Date to, int maxPoints) {
+        return rollupService.getRollups(materialId, from, to, maxPoints);
+    }
+
+    public List<StorageCondition> getLatestConditions(Long materialId, int limit) {
+        List<StorageCondition> conditions = new ArrayList<>(
+                repository.findLatestByMaterialId(materialId, CursorPage.limit(limit)));
+        Collections.reverse(conditions);
+        return conditions;
+    }
+
+    @Transactional
     public void updateCondition(User user, Long id, StorageCondition newCondition) {
         StorageCondition condition = getConditionById(id);
+        materialStatisticsService.unrecord(condition);
+        rollupService.rebuild(condition.getMaterialID().getMaterialID(), condition.getMeasurementTime());
         condition.setTemperature(newCondition.getTemperature());
         condition.setHumidity(newCondition.getHumidity());
         condition.setOxygenLevel(newCondition.getOxygenLevel());
         condition.setMaterialID(newCondition.getMaterialID());
+        if (newCondition.getMeasurementTime() != null) {
+            condition.setMeasurementTime(newCondition.getMeasurementTime());
+        }
         processCondition(condition);
+        materialStatisticsService.record(condition);
+        rollupService.rebuild(condition.getMaterialID().getMaterialID(), condition.getMeasurementTime());
         repository.save(condition);
-        String logMessage = logMessage(condition, "User with ID " + user.getUserID() + ". Update ");
-        eventLogService.logAction(user, logMessage);
+        eventLogService.logAction(user, ActionType.UPDATE, EntityType.STORAGE_CONDITION, id, logPayload(condition));
     }
 
+    @Transactional
     public void deleteCondition(User user, Long id) {
         StorageCondition condition = getConditionById(id);
+        materialStatisticsService.unrecord(condition);
+        rollupService.rebuild(condition.getMaterialID().getMaterialID(), condition.getMeasurementTime());
         repository.deleteById(id);
-        String logMessage = logMessage(condition, "User with ID " + user.getUserID() + ". Delete ");
-        eventLogService.logAction(user, logMessage);
+        eventLogService.logAction(user, ActionType.DELETE, EntityType.STORAGE_CONDITION, id, logPayload(condition));
     }
 }
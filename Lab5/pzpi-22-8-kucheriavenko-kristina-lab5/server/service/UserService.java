@@ -4,8 +4,8 @@ import com.BiologicalMaterialsSystem.enums.Access;
 import com.BiologicalMaterialsSystem.model.User;
 import com.BiologicalMaterialsSystem.repository.UserRepository;
 import com.BiologicalMaterialsSystem.config.PasswordEncryptionService;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import java.util.List;
 
 @Service
 public class UserService {
@@ -40,8 +40,12 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<User> getAllUsers(Long cursor, int limit) {
+        Pageable pageable = CursorPage.limit(limit);
+        return CursorPage.of(
+                userRepository.findByUserIDLessThanOrderByUserIDDesc(CursorPage.cursorOrFirst(cursor), pageable),
+                pageable,
+                User::getUserID);
     }
 
     public User updateUser(Long id, User userDetails) {
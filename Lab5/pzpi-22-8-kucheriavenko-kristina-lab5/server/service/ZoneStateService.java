@@ -0,0 +1,170 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.config.NotificationProperties;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import com.BiologicalMaterialsSystem.model.Notification;
+import com.BiologicalMaterialsSystem.repository.NotificationBatchRepository;
+import com.BiologicalMaterialsSystem.repository.NotificationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Notifications are emitted only when a material changes zone or stays in a hazardous zone
+// for longer than the escalation dwell time. Repeated readings in the same zone increase the
+// occurrence counter of the open notification instead of creating new rows.
+// Readings are observed after they have committed; new notifications are saved in their own transaction
+// and the state changes only once that save has succeeded. On startup the state of each material is
+// restored from its latest zone notification, so a restart does not raise the open notifications again.
+// Counters are flushed as increments, so several nodes can add to the same notification.
+@Service
+@RequiredArgsConstructor
+public class ZoneStateService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationProperties properties;
+    private final LiveFeedService liveFeedService;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, ZoneState> states = new ConcurrentHashMap<>();
+    private final Map<Long, Occurrences> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void restore() {
+        for (Notification notification : notificationRepository.findLatestZoneNotifications()) {
+            ZoneState state = new ZoneState();
+            state.zone = notification.getZone();
+            state.lastEmittedAt = seenTime(notification.getFirstSeen(), notification);
+            state.lastTime = seenTime(notification.getLastSeen(), notification);
+            state.open = notification;
+            states.put(notification.getMaterialID().getMaterialID(), state);
+        }
+    }
+
+    public StorageZone observe(BiologicalMaterial material, double score, Date time) {
+        ZoneState state = states.computeIfAbsent(material.getMaterialID(), id -> new ZoneState());
+        synchronized (state) {
+            // Late readings are stored but must not rewind the state machine.
+            if (state.zone != null && time.getTime() < state.lastTime) {
+                return state.zone;
+            }
+            StorageZone zone = state.zone == null ? StorageZone.fromScore(score) : nextZone(state.zone, score, properties.getHysteresisMargin());
+
+            if (zone != state.zone) {
+                Notification opened = zone != StorageZone.GREEN
+                        ? emit(material, zone, "Hazardous storage conditions", "Material in the zone: " + zone.name(), time)
+                        : null;
+                state.zone = zone;
+                state.lastEmittedAt = time.getTime();
+                state.open = opened;
+            } else if (zone != StorageZone.GREEN) {
+                if (time.getTime() - state.lastEmittedAt >= properties.getEscalationDwellMillis()) {
+                    state.open = emit(material, zone, "Prolonged hazardous storage conditions",
+                            "Material remains in the zone: " + zone.name(), time);
+                    state.lastEmittedAt = time.getTime();
+                } else if (state.open != null) {
+                    pending.merge(state.open.getNotificationID(), new Occurrences(1, time), Occurrences::plus);
+                }
+            }
+            state.lastTime = time.getTime();
+            return zone;
+        }
+    }
+
+    public StorageZone getZone(Long materialId) {
+        ZoneState state = states.get(materialId);
+        return state != null ? state.zone : null;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.coalescing.flush-interval-millis:60000}")
+    public void flush() {
+        Map<Long, Occurrences> taken = new HashMap<>();
+        for (Long notificationId : pending.keySet()) {
+            Occurrences occurrences = pending.remove(notificationId);
+            if (occurrences != null) {
+                taken.put(notificationId, occurrences);
+            }
+        }
+        if (taken.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(taken.size());
+        taken.forEach((notificationId, occurrences) -> rows.add(new Object[]{
+                occurrences.count(),
+                new Timestamp(occurrences.lastSeen().getTime()),
+                notificationId
+        }));
+        try {
+            // One transaction, so a failed batch is retried without counting any of its rows twice.
+            newTransaction().executeWithoutResult(status -> notificationBatchRepository.addOccurrences(rows));
+        } catch (Exception e) {
+            taken.forEach((notificationId, occurrences) -> pending.merge(notificationId, occurrences, Occurrences::plus));
+            System.err.println("Не вдалося оновити сповіщення (" + rows.size() + "): " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    static StorageZone nextZone(StorageZone current, double score, double hysteresisMargin) {
+        StorageZone raw = StorageZone.fromScore(score);
+        if (raw.ordinal() >= current.ordinal()) {
+            return raw;
+        }
+        StorageZone withMargin = StorageZone.fromScore(score - hysteresisMargin);
+        return withMargin.ordinal() < current.ordinal() ? withMargin : current;
+    }
+
+    private Notification emit(BiologicalMaterial material, StorageZone zone, String eventType, String details, Date time) {
+        Notification notification = new Notification();
+        notification.setEventType(eventType);
+        notification.setDetails(details);
+        notification.setNotificationTime(new Date());
+        notification.setFirstSeen(time);
+        notification.setLastSeen(time);
+        notification.setZone(zone);
+        notification.setMaterialID(material);
+        Notification saved = newTransaction().execute(status -> notificationRepository.save(notification));
+        liveFeedService.publishNotification(saved);
+        return saved;
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transaction;
+    }
+
+    private static long seenTime(Date seen, Notification notification) {
+        return (seen != null ? seen : notification.getNotificationTime()).getTime();
+    }
+
+    private record Occurrences(int count, Date lastSeen) {
+        private Occurrences plus(Occurrences other) {
+            return new Occurrences(count + other.count, lastSeen.after(other.lastSeen) ? lastSeen : other.lastSeen);
+        }
+    }
+
+    private static final class ZoneState {
+        private StorageZone zone;
+        private long lastTime;
+        private long lastEmittedAt;
+        private Notification open;
+    }
+}
@@ -0,0 +1,121 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinarySensorPayloadDecoderTest {
+
+    private final BinarySensorPayloadDecoder decoder = new BinarySensorPayloadDecoder();
+
+    @Test
+    void validPayloadReportsItsSampleCount() {
+        assertEquals(1, decoder.sampleCount(payload(1)));
+        assertEquals(3, decoder.sampleCount(payload(3)));
+        assertEquals(255, decoder.sampleCount(payload(255)));
+    }
+
+    @Test
+    void payloadShorterThanHeaderIsRejected() {
+        assertEquals(-1, decoder.sampleCount(new byte[0]));
+        assertEquals(-1, decoder.sampleCount(new byte[BinarySensorPayloadDecoder.HEADER_SIZE - 1]));
+    }
+
+    @Test
+    void unknownVersionIsRejected() {
+        byte[] payload = payload(1);
+        payload[0] = 2;
+        assertEquals(-1, decoder.sampleCount(payload));
+    }
+
+    @Test
+    void payloadWithoutSamplesIsRejected() {
+        assertEquals(-1, decoder.sampleCount(payload(0)));
+    }
+
+    @Test
+    void lengthMustMatchSampleCount() {
+        byte[] payload = payload(2);
+
+        assertEquals(-1, decoder.sampleCount(payload, payload.length - 1));
+        assertEquals(-1, decoder.sampleCount(payload, payload.length - BinarySensorPayloadDecoder.SAMPLE_SIZE));
+        assertEquals(-1, decoder.sampleCount(ByteBuffer.allocate(payload.length + 1).put(payload).array()));
+        payload[1] = 3;
+        assertEquals(-1, decoder.sampleCount(payload));
+    }
+
+    @Test
+    void onlyValidBytesOfReusedBufferAreChecked() {
+        byte[] payload = payload(1);
+        byte[] buffer = ByteBuffer.allocate(512).put(payload).array();
+
+        assertEquals(1, decoder.sampleCount(buffer, payload.length));
+        assertEquals(-1, decoder.sampleCount(buffer));
+    }
+
+    @Test
+    void sampleIsDecodedFromFixedPoint() {
+        byte[] payload = ByteBuffer.allocate(BinarySensorPayloadDecoder.HEADER_SIZE + BinarySensorPayloadDecoder.SAMPLE_SIZE)
+                .put((byte) 1).put((byte) 1).putInt(0x0A0B0C0D).putLong(1)
+                .putInt(1736936430).putShort((short) 425).putShort((short) 6150).putShort((short) 2000)
+                .array();
+        SensorReading reading = new SensorReading();
+        reading.setSequence(7);
+        reading.setReceivedTime(1);
+
+        decoder.decodeSample(payload, 0, reading);
+
+        assertEquals(0x0A0B0C0DL, reading.getDeviceId());
+        assertEquals(1L, reading.getMaterialId());
+        assertEquals(1736936430000L, reading.getMeasurementTime());
+        assertEquals(4.25, reading.getTemperature(), 1e-9);
+        assertEquals(61.5, reading.getHumidity(), 1e-9);
+        assertEquals(20.0, reading.getOxygenLevel(), 1e-9);
+        assertEquals(-1L, reading.getSequence());
+        assertEquals(SensorReading.NO_TIME, reading.getReceivedTime());
+    }
+
+    @Test
+    void signedAndUnsignedFieldsKeepTheirRange() {
+        byte[] payload = ByteBuffer.allocate(BinarySensorPayloadDecoder.HEADER_SIZE + BinarySensorPayloadDecoder.SAMPLE_SIZE)
+                .put((byte) 1).put((byte) 1).putInt(0xFFFFFFFF).putLong(Long.MAX_VALUE)
+                .putInt(0xFFFFFFFF).putShort((short) -1850).putShort((short) 0xFFFF).putShort((short) 0x8000)
+                .array();
+        SensorReading reading = new SensorReading();
+
+        decoder.decodeSample(payload, 0, reading);
+
+        assertEquals(0xFFFFFFFFL, reading.getDeviceId());
+        assertEquals(Long.MAX_VALUE, reading.getMaterialId());
+        assertEquals(0xFFFFFFFFL * 1000, reading.getMeasurementTime());
+        assertEquals(-18.5, reading.getTemperature(), 1e-9);
+        assertEquals(655.35, reading.getHumidity(), 1e-9);
+        assertEquals(327.68, reading.getOxygenLevel(), 1e-9);
+    }
+
+    @Test
+    void eachSampleIsReadAtItsIndex() {
+        byte[] payload = payload(3);
+        SensorReading reading = new SensorReading();
+
+        for (int i = 0; i < 3; i++) {
+            decoder.decodeSample(payload, i, reading);
+            assertEquals(1000L * (1_700_000_000 + i), reading.getMeasurementTime());
+            assertEquals(i / 100.0, reading.getTemperature(), 1e-9);
+            assertEquals(42L, reading.getMaterialId());
+        }
+    }
+
+    // Sample i has epochSeconds 1700000000 + i and temperature i / 100.
+    private static byte[] payload(int sampleCount) {
+        ByteBuffer buffer = ByteBuffer.allocate(BinarySensorPayloadDecoder.HEADER_SIZE
+                + sampleCount * BinarySensorPayloadDecoder.SAMPLE_SIZE);
+        buffer.put((byte) BinarySensorPayloadDecoder.VERSION).put((byte) sampleCount).putInt(7).putLong(42);
+        for (int i = 0; i < sampleCount; i++) {
+            buffer.putInt(1_700_000_000 + i).putShort((short) i).putShort((short) 5000).putShort((short) 2100);
+        }
+        return buffer.array();
+    }
+}
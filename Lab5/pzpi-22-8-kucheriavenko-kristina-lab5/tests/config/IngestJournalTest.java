@@ -0,0 +1,177 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The checkpoint is written only by close(), so each test decides where a restart resumes.
+class IngestJournalTest {
+
+    private static final int RECORD_SIZE = 60;
+    private static final long LARGE_SEGMENT = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void restartReplaysReadingsAfterCheckpoint() throws Exception {
+        AtomicLong unfinished = new AtomicLong(Long.MAX_VALUE);
+        List<SensorReading> replayed = new CopyOnWriteArrayList<>();
+        IngestJournal journal = open(LARGE_SEGMENT, replayed, unfinished);
+        for (int i = 0; i < 5; i++) {
+            journal.append(reading(i));
+        }
+        await(() -> replayed.size() == 5);
+        // Readings 3 and 4 were handed to the lanes but not written before the shutdown.
+        unfinished.set(3);
+        journal.stopReplay();
+        journal.close();
+
+        List<SensorReading> recovered = new CopyOnWriteArrayList<>();
+        IngestJournal restarted = open(LARGE_SEGMENT, recovered, new AtomicLong(Long.MAX_VALUE));
+        await(() -> recovered.size() == 2);
+        restarted.stopReplay();
+
+        assertEquals(List.of(3L, 4L), sequences(recovered));
+        SensorReading reading = recovered.get(0);
+        assertEquals(3L, reading.getMaterialId());
+        assertEquals(1003L, reading.getMeasurementTime());
+        assertEquals(2003L, reading.getReceivedTime());
+        assertEquals(3.25, reading.getTemperature());
+        assertEquals(53.0, reading.getHumidity());
+        assertEquals(23.0, reading.getOxygenLevel());
+        assertEquals(103L, reading.getDeviceId());
+        assertEquals(0L, restarted.backlog());
+    }
+
+    @Test
+    void appendAfterRestartContinuesAfterLastRecord() throws Exception {
+        List<SensorReading> replayed = new CopyOnWriteArrayList<>();
+        IngestJournal journal = open(LARGE_SEGMENT, replayed, new AtomicLong(Long.MAX_VALUE));
+        for (int i = 0; i < 3; i++) {
+            journal.append(reading(i));
+        }
+        await(() -> replayed.size() == 3);
+        journal.stopReplay();
+        journal.close();
+
+        List<SensorReading> recovered = new CopyOnWriteArrayList<>();
+        IngestJournal restarted = open(LARGE_SEGMENT, recovered, new AtomicLong(Long.MAX_VALUE));
+        assertEquals(0L, restarted.backlog());
+        restarted.append(reading(42));
+        await(() -> recovered.size() == 1);
+        restarted.stopReplay();
+
+        assertEquals(List.of(3L), sequences(recovered));
+        assertEquals(42L, recovered.get(0).getMaterialId());
+    }
+
+    @Test
+    void tornLastRecordIsOverwrittenAfterRestart() throws Exception {
+        List<SensorReading> replayed = new CopyOnWriteArrayList<>();
+        // Nothing is written to the database, so the checkpoint stays at the start of the journal.
+        IngestJournal journal = open(LARGE_SEGMENT, replayed, new AtomicLong(0));
+        for (int i = 0; i < 3; i++) {
+            journal.append(reading(i));
+        }
+        await(() -> replayed.size() == 3);
+        journal.stopReplay();
+        journal.close();
+        corrupt(segments().get(0), 2 * RECORD_SIZE + 8);
+
+        List<SensorReading> recovered = new CopyOnWriteArrayList<>();
+        IngestJournal restarted = open(LARGE_SEGMENT, recovered, new AtomicLong(Long.MAX_VALUE));
+        await(() -> recovered.size() == 2);
+        restarted.append(reading(42));
+        await(() -> recovered.size() == 3);
+        restarted.stopReplay();
+
+        assertEquals(List.of(0L, 1L, 2L), sequences(recovered));
+        assertEquals(42L, recovered.get(2).getMaterialId());
+    }
+
+    @Test
+    void segmentsBeforeCheckpointAreDeleted() throws Exception {
+        long twoRecords = 2 * RECORD_SIZE;
+        List<SensorReading> replayed = new CopyOnWriteArrayList<>();
+        IngestJournal journal = open(twoRecords, replayed, new AtomicLong(Long.MAX_VALUE));
+        for (int i = 0; i < 5; i++) {
+            journal.append(reading(i));
+        }
+        await(() -> replayed.size() == 5);
+        assertEquals(3, segments().size());
+        journal.stopReplay();
+        journal.close();
+
+        assertEquals(1, segments().size());
+
+        List<SensorReading> recovered = new CopyOnWriteArrayList<>();
+        IngestJournal restarted = open(twoRecords, recovered, new AtomicLong(Long.MAX_VALUE));
+        restarted.append(reading(42));
+        await(() -> recovered.size() == 1);
+        restarted.stopReplay();
+
+        assertEquals(List.of(5L), sequences(recovered));
+    }
+
+    private IngestJournal open(long segmentSizeBytes, List<SensorReading> sink, AtomicLong unfinished) throws IOException {
+        IngestProperties properties = new IngestProperties();
+        properties.setJournalDirectory(directory.toString());
+        properties.setJournalSegmentSizeBytes(segmentSizeBytes);
+        properties.setJournalSyncIntervalMillis(TimeUnit.HOURS.toMillis(1));
+        properties.setJournalCheckpointIntervalMillis(TimeUnit.HOURS.toMillis(1));
+        IngestJournal journal = new IngestJournal(properties, sink::add, unfinished::get);
+        journal.open();
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).sorted().toList();
+        }
+    }
+
+    private static void corrupt(Path segment, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), position);
+        }
+    }
+
+    private static SensorReading reading(int i) {
+        SensorReading reading = new SensorReading();
+        reading.setMaterialId(i);
+        reading.setMeasurementTime(1000 + i);
+        reading.setReceivedTime(2000 + i);
+        reading.setTemperature(i + 0.25);
+        reading.setHumidity(50 + i);
+        reading.setOxygenLevel(20 + i);
+        reading.setDeviceId(100 + i);
+        return reading;
+    }
+
+    private static List<Long> sequences(List<SensorReading> readings) {
+        return readings.stream().map(SensorReading::getSequence).toList();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Journal replay did not catch up");
+            Thread.sleep(10);
+        }
+    }
+}
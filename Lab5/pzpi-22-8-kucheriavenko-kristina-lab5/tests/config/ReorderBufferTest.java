@@ -0,0 +1,107 @@
+package com.BiologicalMaterialsSystem.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReorderBufferTest {
+
+    private static final long WINDOW = 1000;
+
+    private final ReorderBuffer buffer = new ReorderBuffer(WINDOW);
+
+    @Test
+    void readingsBehindWatermarkAreReleasedInMeasurementOrder() {
+        buffer.add(reading(1, 5000, 5000));
+        buffer.add(reading(1, 3000, 5001));
+        buffer.add(reading(1, 4000, 5002));
+
+        // The watermark is 5000 - 1000, so the newest reading is still held back.
+        assertEquals(List.of(3000L, 4000L), measurementTimes(buffer.release(5002)));
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void readingAheadOfWatermarkIsHeld() {
+        buffer.add(reading(1, 1000, 1000));
+
+        assertTrue(buffer.release(1500).isEmpty());
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void lateReadingIsSortedBeforeNewerOnes() {
+        buffer.add(reading(1, 2000, 2000));
+        buffer.add(reading(1, 2500, 2500));
+        buffer.add(reading(1, 1500, 2600));
+        buffer.add(reading(1, 4000, 4000));
+
+        assertEquals(List.of(1500L, 2000L, 2500L), measurementTimes(buffer.release(4000)));
+    }
+
+    @Test
+    void readingOfSilentDeviceIsReleasedAfterWindowSinceReceipt() {
+        buffer.add(reading(1, 1000, 1000));
+
+        assertTrue(buffer.release(1999).isEmpty());
+        assertEquals(List.of(1000L), measurementTimes(buffer.release(2000)));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void watermarkIsKeptPerMaterial() {
+        buffer.add(reading(1, 1000, 1000));
+        buffer.add(reading(2, 10_000, 1000));
+        buffer.add(reading(2, 20_000, 1000));
+
+        List<SensorReading> released = buffer.release(1000);
+
+        assertEquals(1, released.size());
+        assertEquals(2L, released.get(0).getMaterialId());
+        assertEquals(10_000L, released.get(0).getMeasurementTime());
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    void equalMeasurementTimesAreReleasedInReceiveOrder() {
+        buffer.add(reading(1, 1000, 1200));
+        buffer.add(reading(1, 1000, 1100));
+
+        List<SensorReading> released = buffer.releaseAll();
+
+        assertEquals(1100L, released.get(0).getReceivedTime());
+        assertEquals(1200L, released.get(1).getReceivedTime());
+    }
+
+    @Test
+    void releaseAllEmptiesBuffer() {
+        buffer.add(reading(1, 3000, 3000));
+        buffer.add(reading(1, 1000, 3000));
+        buffer.add(reading(2, 2000, 3000));
+
+        List<SensorReading> released = buffer.releaseAll();
+
+        assertEquals(3, released.size());
+        assertEquals(0, buffer.size());
+        assertTrue(buffer.release(Long.MAX_VALUE).isEmpty());
+        List<Long> firstMaterial = released.stream()
+                .filter(reading -> reading.getMaterialId() == 1)
+                .map(SensorReading::getMeasurementTime)
+                .toList();
+        assertEquals(List.of(1000L, 3000L), firstMaterial);
+    }
+
+    private static SensorReading reading(long materialId, long measurementTime, long receivedTime) {
+        SensorReading reading = new SensorReading();
+        reading.setMaterialId(materialId);
+        reading.setMeasurementTime(measurementTime);
+        reading.setReceivedTime(receivedTime);
+        return reading;
+    }
+
+    private static List<Long> measurementTimes(List<SensorReading> readings) {
+        return readings.stream().map(SensorReading::getMeasurementTime).toList();
+    }
+}
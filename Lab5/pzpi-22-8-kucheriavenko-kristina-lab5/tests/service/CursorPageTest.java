@@ -0,0 +1,74 @@
+package com.BiologicalMaterialsSystem.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPageTest {
+
+    @Test
+    void fullPageReturnsIdOfLastItemAsNextCursor() {
+        Pageable pageable = CursorPage.limit(3);
+        CursorPage<Long> page = CursorPage.of(List.of(30L, 20L, 10L), pageable, id -> id);
+
+        assertEquals(List.of(30L, 20L, 10L), page.items());
+        assertEquals(10L, page.nextCursor());
+    }
+
+    @Test
+    void partialPageHasNoNextCursor() {
+        assertNull(CursorPage.of(List.of(30L, 20L), CursorPage.limit(3), id -> id).nextCursor());
+        assertNull(CursorPage.of(List.<Long>of(), CursorPage.limit(3), id -> id).nextCursor());
+    }
+
+    @Test
+    void limitIsClampedToAllowedRange() {
+        assertEquals(1, CursorPage.limit(0).getPageSize());
+        assertEquals(1, CursorPage.limit(-5).getPageSize());
+        assertEquals(CursorPage.DEFAULT_LIMIT, CursorPage.limit(CursorPage.DEFAULT_LIMIT).getPageSize());
+        assertEquals(CursorPage.MAX_LIMIT, CursorPage.limit(CursorPage.MAX_LIMIT + 1).getPageSize());
+        assertEquals(0, CursorPage.limit(10).getPageNumber());
+    }
+
+    @Test
+    void missingCursorStartsFromNewestRecord() {
+        assertEquals(Long.MAX_VALUE, CursorPage.cursorOrFirst(null));
+        assertEquals(42L, CursorPage.cursorOrFirst(42L));
+    }
+
+    @Test
+    void missingBoundsCoverAllRecords() {
+        Date from = new Date(1000);
+        Date to = new Date(2000);
+
+        assertSame(from, CursorPage.fromOrEarliest(from));
+        assertEquals(new Date(0), CursorPage.fromOrEarliest(null));
+        assertSame(to, CursorPage.toOrLatest(to));
+        assertTrue(CursorPage.toOrLatest(null).after(new Date()));
+    }
+
+    @Test
+    void missingStartIsLimitedToWindowBeforeEnd() {
+        Date to = new Date(TimeUnit.DAYS.toMillis(100));
+        Date from = new Date(5);
+
+        assertEquals(new Date(TimeUnit.DAYS.toMillis(70)), CursorPage.fromOrWindow(null, to, 30));
+        assertSame(from, CursorPage.fromOrWindow(from, to, 30));
+        assertEquals(new Date(0), CursorPage.fromOrWindow(null, to, 0));
+    }
+
+    @Test
+    void missingStartAndEndUseWindowBeforeNow() {
+        long day = TimeUnit.DAYS.toMillis(1);
+        long before = System.currentTimeMillis();
+        Date from = CursorPage.fromOrWindow(null, null, 1);
+        long after = System.currentTimeMillis();
+
+        assertTrue(from.getTime() >= before - day && from.getTime() <= after - day);
+    }
+}
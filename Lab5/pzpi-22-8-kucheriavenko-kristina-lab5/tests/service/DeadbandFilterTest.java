@@ -0,0 +1,129 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.config.DeadbandProperties;
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import com.BiologicalMaterialsSystem.model.BiologicalMaterial;
+import com.BiologicalMaterialsSystem.model.StorageCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Without a transaction AfterCommit runs at once, so the state is updated as soon as filter() returns.
+class DeadbandFilterTest {
+
+    private DeadbandProperties properties;
+    private DeadbandFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DeadbandProperties();
+        properties.setEnabled(true);
+        properties.setTemperatureTolerance(0.2);
+        properties.setHumidityTolerance(1.0);
+        properties.setOxygenTolerance(0.5);
+        properties.setHeartbeatMillis(60_000);
+        filter = new DeadbandFilter(properties);
+    }
+
+    @Test
+    void disabledFilterKeepsEveryReading() {
+        properties.setEnabled(false);
+        List<StorageCondition> conditions = List.of(condition(1, 0, 4.0), condition(1, 1000, 4.0));
+
+        assertSame(conditions, filter.filter(conditions));
+        assertEquals(0, filter.getSuppressed());
+    }
+
+    @Test
+    void readingWithinTolerancesIsSuppressed() {
+        StorageCondition first = condition(1, 0, 4.0, 60.0, 20.0, StorageZone.GREEN);
+        StorageCondition close = condition(1, 1000, 4.1, 60.5, 20.3, StorageZone.GREEN);
+
+        assertEquals(List.of(first), filter.filter(List.of(first, close)));
+        assertEquals(1, filter.getSuppressed());
+    }
+
+    @Test
+    void eachValueIsComparedWithItsOwnTolerance() {
+        filter.filter(List.of(condition(1, 0, 4.0, 60.0, 20.0, StorageZone.GREEN)));
+
+        assertEquals(1, filter.filter(List.of(condition(1, 1000, 4.3, 60.0, 20.0, StorageZone.GREEN))).size());
+        assertEquals(1, filter.filter(List.of(condition(1, 2000, 4.3, 61.5, 20.0, StorageZone.GREEN))).size());
+        assertEquals(1, filter.filter(List.of(condition(1, 3000, 4.3, 61.5, 20.7, StorageZone.GREEN))).size());
+        assertEquals(0, filter.getSuppressed());
+    }
+
+    @Test
+    void keptReadingBecomesReference() {
+        StorageCondition first = condition(1, 0, 4.0);
+        StorageCondition far = condition(1, 1000, 4.5);
+        StorageCondition nearFar = condition(1, 2000, 4.6);
+        StorageCondition nearFirst = condition(1, 3000, 4.05);
+
+        assertEquals(List.of(first, far, nearFirst), filter.filter(List.of(first, far, nearFar, nearFirst)));
+    }
+
+    @Test
+    void zoneChangeIsKept() {
+        StorageCondition green = condition(1, 0, 4.0, 60.0, 20.0, StorageZone.GREEN);
+        StorageCondition yellow = condition(1, 1000, 4.0, 60.0, 20.0, StorageZone.YELLOW);
+
+        assertEquals(List.of(green, yellow), filter.filter(List.of(green, yellow)));
+    }
+
+    @Test
+    void heartbeatKeepsReadingOfStableStorage() {
+        StorageCondition first = condition(1, 0, 4.0);
+        StorageCondition within = condition(1, 59_999, 4.0);
+        StorageCondition heartbeat = condition(1, 60_000, 4.0);
+
+        assertEquals(List.of(first, heartbeat), filter.filter(List.of(first, within, heartbeat)));
+    }
+
+    @Test
+    void lastKeptReadingIsRememberedAcrossBatches() {
+        filter.filter(List.of(condition(1, 0, 4.0)));
+
+        assertTrue(filter.filter(List.of(condition(1, 1000, 4.0))).isEmpty());
+        assertEquals(1, filter.getSuppressed());
+    }
+
+    @Test
+    void materialsAreFilteredIndependently() {
+        StorageCondition first = condition(1, 0, 4.0);
+        StorageCondition second = condition(2, 1000, 4.0);
+
+        assertEquals(List.of(first, second), filter.filter(List.of(first, second)));
+    }
+
+    @Test
+    void invalidatedMaterialKeepsItsNextReading() {
+        filter.filter(List.of(condition(1, 0, 4.0)));
+        filter.invalidate(1L);
+
+        assertEquals(1, filter.filter(List.of(condition(1, 1000, 4.0))).size());
+    }
+
+    private static StorageCondition condition(long materialId, long time, double temperature) {
+        return condition(materialId, time, temperature, 60.0, 20.0, StorageZone.GREEN);
+    }
+
+    private static StorageCondition condition(long materialId, long time, double temperature,
+                                              double humidity, double oxygenLevel, StorageZone zone) {
+        BiologicalMaterial material = new BiologicalMaterial();
+        material.setMaterialID(materialId);
+
+        StorageCondition condition = new StorageCondition();
+        condition.setMaterialID(material);
+        condition.setMeasurementTime(new Date(time));
+        condition.setTemperature(temperature);
+        condition.setHumidity(humidity);
+        condition.setOxygenLevel(oxygenLevel);
+        condition.setZone(zone);
+        return condition;
+    }
+}
@@ -0,0 +1,52 @@
+package com.BiologicalMaterialsSystem.service;
+
+import com.BiologicalMaterialsSystem.enums.StorageZone;
+import org.junit.jupiter.api.Test;
+
+import static com.BiologicalMaterialsSystem.enums.StorageZone.GREEN;
+import static com.BiologicalMaterialsSystem.enums.StorageZone.RED;
+import static com.BiologicalMaterialsSystem.enums.StorageZone.YELLOW;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Zone thresholds: RED below 0.3, YELLOW below 0.7, GREEN from 0.7.
+class ZoneStateServiceTest {
+
+    private static final double MARGIN = 0.05;
+
+    @Test
+    void worseZoneIsEnteredAtOnce() {
+        assertEquals(YELLOW, ZoneStateService.nextZone(GREEN, 0.69, MARGIN));
+        assertEquals(RED, ZoneStateService.nextZone(GREEN, 0.1, MARGIN));
+        assertEquals(RED, ZoneStateService.nextZone(YELLOW, 0.29, MARGIN));
+    }
+
+    @Test
+    void unchangedZoneIsKept() {
+        assertEquals(GREEN, ZoneStateService.nextZone(GREEN, 0.9, MARGIN));
+        assertEquals(YELLOW, ZoneStateService.nextZone(YELLOW, 0.5, MARGIN));
+        assertEquals(RED, ZoneStateService.nextZone(RED, 0.1, MARGIN));
+    }
+
+    @Test
+    void betterZoneNeedsScoreAboveThresholdByMargin() {
+        assertEquals(RED, ZoneStateService.nextZone(RED, 0.32, MARGIN));
+        assertEquals(YELLOW, ZoneStateService.nextZone(RED, 0.36, MARGIN));
+        assertEquals(YELLOW, ZoneStateService.nextZone(YELLOW, 0.72, MARGIN));
+        assertEquals(GREEN, ZoneStateService.nextZone(YELLOW, 0.76, MARGIN));
+    }
+
+    @Test
+    void recoveryMaySkipZone() {
+        assertEquals(GREEN, ZoneStateService.nextZone(RED, 0.9, MARGIN));
+        assertEquals(YELLOW, ZoneStateService.nextZone(RED, 0.72, MARGIN));
+    }
+
+    @Test
+    void zeroMarginFollowsScore() {
+        for (StorageZone current : StorageZone.values()) {
+            assertEquals(GREEN, ZoneStateService.nextZone(current, 0.7, 0));
+            assertEquals(YELLOW, ZoneStateService.nextZone(current, 0.3, 0));
+            assertEquals(RED, ZoneStateService.nextZone(current, 0.29, 0));
+        }
+    }
+}
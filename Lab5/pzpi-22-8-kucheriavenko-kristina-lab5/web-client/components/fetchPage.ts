@@ -0,0 +1,11 @@
+export const NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+export const LOOKUP_LIMIT = 500;
+
+export async function fetchPage(url: string, cursor: string | null = null): Promise<{ response: Response, data: any[], nextCursor: string | null }> {
+    const pageUrl = cursor === null ? url : `${url}${url.includes('?') ? '&' : '?'}cursor=${encodeURIComponent(cursor)}`;
+    const response = await fetch(pageUrl);
+    if (!response.ok) {
+        return { response, data: [], nextCursor: null };
+    }
+    return { response, data: await response.json(), nextCursor: response.headers.get(NEXT_CURSOR_HEADER) };
+}
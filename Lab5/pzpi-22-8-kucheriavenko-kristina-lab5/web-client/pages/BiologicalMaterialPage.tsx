@@ -4,12 +4,14 @@ import {useTranslation} from "react-i18next";
 import Datetime from "react-datetime";
 import "react-datetime/css/react-datetime.css";
 import moment from "moment/moment";
+import { fetchPage, LOOKUP_LIMIT } from "../components/fetchPage";
 
 
 export default function BiologicalMaterialsManagementPage() {
     const [materials, setMaterials] = useState([]);
     const [donors, setDonors] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
     const [error, setError] = useState(null);
     const { t } = useTranslation();
     const [UseEuFormat, setUseEuFormat] = useState(true);
@@ -36,15 +38,15 @@ export default function BiologicalMaterialsManagementPage() {
         fetchDonors();
     }, []);
 
-    const fetchMaterials = async () => {
+    const fetchMaterials = async (cursor = null) => {
         try {
-            setLoading(true);
-            const response = await fetch(API_BASE_URL);
+            setLoading(cursor === null);
+            const { response, data, nextCursor } = await fetchPage(API_BASE_URL, cursor);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
-            setMaterials(data);
+            setMaterials(prev => cursor === null ? data : [...prev, ...data]);
+            setNextCursor(nextCursor);
             setError(null);
         } catch (err) {
             setError(`Failed to fetch biological materials: ${err.message}`);
@@ -56,11 +58,10 @@ export default function BiologicalMaterialsManagementPage() {
 
     const fetchDonors = async () => {
         try {
-            const response = await fetch(DONORS_API_URL);
+            const { response, data } = await fetchPage(`${DONORS_API_URL}?limit=${LOOKUP_LIMIT}`);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
             setDonors(data);
         } catch (err) {
             console.error("Error fetching donors:", err);
@@ -577,6 +578,18 @@ export default function BiologicalMaterialsManagementPage() {
                     </tbody>
                 </table>
             </div>
+
+            {nextCursor !== null && (
+                <div className="mt-4 text-center">
+                    <button
+                        type="button"
+                        onClick={() => fetchMaterials(nextCursor)}
+                        className="bg-blue-100 text-blue-800 px-4 py-2 rounded shadow hover:bg-blue-200 transition"
+                    >
+                        {t("load_more")}
+                    </button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file
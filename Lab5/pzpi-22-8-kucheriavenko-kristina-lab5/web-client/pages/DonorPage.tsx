@@ -4,11 +4,13 @@ import {useTranslation} from "react-i18next";
 import Datetime from "react-datetime";
 import "react-datetime/css/react-datetime.css";
 import moment from "moment/moment";
+import { fetchPage } from "../components/fetchPage";
 
 
 export default function DonorsManagementPage() {
     const [donors, setDonors] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
     const [error, setError] = useState(null);
     const {t} = useTranslation();
     const [UseEuFormat, setUseEuFormat] = useState(true);
@@ -32,15 +34,15 @@ export default function DonorsManagementPage() {
         fetchDonors();
     }, []);
 
-    const fetchDonors = async () => {
+    const fetchDonors = async (cursor = null) => {
         try {
-            setLoading(true);
-            const response = await fetch(API_BASE_URL);
+            setLoading(cursor === null);
+            const { response, data, nextCursor } = await fetchPage(API_BASE_URL, cursor);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
-            setDonors(data);
+            setDonors(prev => cursor === null ? data : [...prev, ...data]);
+            setNextCursor(nextCursor);
             setError(null);
         } catch (err) {
             setError(`Failed to fetch donors: ${err.message}`);
@@ -531,6 +533,18 @@ export default function DonorsManagementPage() {
                     </tbody>
                 </table>
             </div>
+
+            {nextCursor !== null && (
+                <div className="mt-4 text-center">
+                    <button
+                        type="button"
+                        onClick={() => fetchDonors(nextCursor)}
+                        className="bg-green-100 text-green-800 px-4 py-2 rounded shadow hover:bg-green-200 transition"
+                    >
+                        {t("load_more")}
+                    </button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file
@@ -4,11 +4,13 @@ import {useTranslation} from "react-i18next";
 import Datetime from "react-datetime";
 import "react-datetime/css/react-datetime.css";
 import moment from "moment";
+import { fetchPage, LOOKUP_LIMIT } from "../components/fetchPage";
 
 export default function EventLogManagementPage() {
     const [eventLogs, setEventLogs] = useState([]);
     const [users, setUsers] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
     const [error, setError] = useState(null);
     const { t } = useTranslation();
     const [UseEuFormat, setUseEuFormat] = useState(true);
@@ -31,19 +33,19 @@ export default function EventLogManagementPage() {
 
     const userRole = localStorage.getItem('role');
 
-    const fetchEventLogs = async () => {
+    const fetchEventLogs = async (cursor = null) => {
         try {
-            setLoading(true);
+            setLoading(cursor === null);
             const userId = localStorage.getItem("userID");
-            const response = await fetch(`${API_BASE_URL}/admin/${userId}`);
+            const { response, data, nextCursor } = await fetchPage(`${API_BASE_URL}/admin/${userId}`, cursor);
             if (response.status === 403) {
                 throw new Error('forbidden_access');
             }
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
-            setEventLogs(data);
+            setEventLogs(prev => cursor === null ? data : [...prev, ...data]);
+            setNextCursor(nextCursor);
             setError(null);
         } catch (err) {
             setError(`${err.message}`);
@@ -55,11 +57,10 @@ export default function EventLogManagementPage() {
 
     const fetchUsers = async () => {
         try {
-            const response = await fetch(USERS_API_URL);
+            const { response, data } = await fetchPage(`${USERS_API_URL}?limit=${LOOKUP_LIMIT}`);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
             setUsers(data);
         } catch (err) {
             console.error("Error fetching users:", err);
@@ -482,6 +483,18 @@ export default function EventLogManagementPage() {
                     </tbody>
                 </table>
             </div>
+
+            {nextCursor !== null && (
+                <div className="mt-4 text-center">
+                    <button
+                        type="button"
+                        onClick={() => fetchEventLogs(nextCursor)}
+                        className="bg-red-100 text-red-800 px-4 py-2 rounded shadow hover:bg-red-200 transition"
+                    >
+                        {t("load_more")}
+                    </button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file
@@ -3,11 +3,13 @@ import {AlertCircle, Edit, Trash2, X, Bell, Clock} from 'lucide-react';
 import {useTranslation} from "react-i18next";
 import moment from "moment/moment";
 import Datetime from "react-datetime";
+import { fetchPage, LOOKUP_LIMIT } from "../components/fetchPage";
 
 export default function NotificationsManagementPage() {
     const [notifications, setNotifications] = useState([]);
     const [materials, setMaterials] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
     const [error, setError] = useState(null);
     const { t } = useTranslation();
     const [UseEuFormat, setUseEuFormat] = useState(true);
@@ -29,15 +31,15 @@ export default function NotificationsManagementPage() {
         fetchMaterials();
     }, []);
 
-    const fetchNotifications = async () => {
+    const fetchNotifications = async (cursor = null) => {
         try {
-            setLoading(true);
-            const response = await fetch(API_BASE_URL);
+            setLoading(cursor === null);
+            const { response, data, nextCursor } = await fetchPage(API_BASE_URL, cursor);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
-            setNotifications(data);
+            setNotifications(prev => cursor === null ? data : [...prev, ...data]);
+            setNextCursor(nextCursor);
             setError(null);
         } catch (err) {
             setError(`Failed to fetch notifications: ${err.message}`);
@@ -49,11 +51,10 @@ export default function NotificationsManagementPage() {
 
     const fetchMaterials = async () => {
         try {
-            const response = await fetch(MATERIALS_API_URL);
+            const { response, data } = await fetchPage(`${MATERIALS_API_URL}?limit=${LOOKUP_LIMIT}`);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
             setMaterials(data);
         } catch (err) {
             console.error("Error fetching materials:", err);
@@ -491,6 +492,18 @@ export default function NotificationsManagementPage() {
                     </tbody>
                 </table>
             </div>
+
+            {nextCursor !== null && (
+                <div className="mt-4 text-center">
+                    <button
+                        type="button"
+                        onClick={() => fetchNotifications(nextCursor)}
+                        className="bg-yellow-100 text-yellow-800 px-4 py-2 rounded shadow hover:bg-yellow-200 transition"
+                    >
+                        {t("load_more")}
+                    </button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file
@@ -4,11 +4,13 @@ import {useTranslation} from "react-i18next";
 import Datetime from "react-datetime";
 import "react-datetime/css/react-datetime.css";
 import moment from "moment";
+import { fetchPage, LOOKUP_LIMIT } from "../components/fetchPage";
 
 export default function StorageConditionsManagementPage() {
     const [conditions, setConditions] = useState([]);
     const [materials, setMaterials] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
     const [error, setError] = useState(null);
     const { t } = useTranslation();
     const [UseEuFormat, setUseEuFormat] = useState(true);
@@ -31,15 +33,15 @@ export default function StorageConditionsManagementPage() {
         fetchMaterials();
     }, []);
 
-    const fetchConditions = async () => {
+    const fetchConditions = async (cursor = null) => {
         try {
-            setLoading(true);
-            const response = await fetch(API_BASE_URL);
+            setLoading(cursor === null);
+            const { response, data, nextCursor } = await fetchPage(API_BASE_URL, cursor);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
-            setConditions(data);
+            setConditions(prev => cursor === null ? data : [...prev, ...data]);
+            setNextCursor(nextCursor);
             setError(null);
             console.log(data);
         } catch (err) {
@@ -52,11 +54,10 @@ export default function StorageConditionsManagementPage() {
 
     const fetchMaterials = async () => {
         try {
-            const response = await fetch(MATERIALS_API_URL);
+            const { response, data } = await fetchPage(`${MATERIALS_API_URL}?limit=${LOOKUP_LIMIT}`);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
             setMaterials(data);
         } catch (err) {
             console.error("Error fetching biological materials:", err);
@@ -537,6 +538,18 @@ export default function StorageConditionsManagementPage() {
                     </tbody>
                 </table>
             </div>
+
+            {nextCursor !== null && (
+                <div className="mt-4 text-center">
+                    <button
+                        type="button"
+                        onClick={() => fetchConditions(nextCursor)}
+                        className="bg-purple-100 text-purple-800 px-4 py-2 rounded shadow hover:bg-purple-200 transition"
+                    >
+                        {t("load_more")}
+                    </button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file
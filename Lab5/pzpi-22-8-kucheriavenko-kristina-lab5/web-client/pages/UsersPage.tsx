@@ -1,10 +1,12 @@
 import { useState, useEffect } from 'react';
 import { AlertCircle, Edit, Trash2, X, UserPlus, Shield } from 'lucide-react';
 import {useTranslation} from "react-i18next";
+import { fetchPage } from "../components/fetchPage";
 
 export default function UsersManagementPage() {
     const [users, setUsers] = useState([]);
     const [loading, setLoading] = useState(true);
+    const [nextCursor, setNextCursor] = useState(null);
     const [error, setError] = useState(null);
     const {t} = useTranslation();
     const [sortConfig, setSortConfig] = useState({ key: null, direction: 'asc' });
@@ -27,15 +29,15 @@ export default function UsersManagementPage() {
         fetchUsers();
     }, []);
 
-    const fetchUsers = async () => {
+    const fetchUsers = async (cursor = null) => {
         try {
-            setLoading(true);
-            const response = await fetch(API_BASE_URL);
+            setLoading(cursor === null);
+            const { response, data, nextCursor } = await fetchPage(API_BASE_URL, cursor);
             if (!response.ok) {
                 throw new Error(`Error: ${response.status}`);
             }
-            const data = await response.json();
-            setUsers(data);
+            setUsers(prev => cursor === null ? data : [...prev, ...data]);
+            setNextCursor(nextCursor);
             setError(null);
         } catch (err) {
             setError(`Failed to fetch users: ${err.message}`);
@@ -445,6 +447,18 @@ export default function UsersManagementPage() {
                     </tbody>
                 </table>
             </div>
+
+            {nextCursor !== null && (
+                <div className="mt-4 text-center">
+                    <button
+                        type="button"
+                        onClick={() => fetchUsers(nextCursor)}
+                        className="bg-cyan-100 text-cyan-800 px-4 py-2 rounded shadow hover:bg-cyan-200 transition"
+                    >
+                        {t("load_more")}
+                    </button>
+                </div>
+            )}
         </div>
     );
 }
\ No newline at end of file